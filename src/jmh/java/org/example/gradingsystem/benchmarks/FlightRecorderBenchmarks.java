@@ -0,0 +1,88 @@
+package org.example.gradingsystem.benchmarks;
+
+import jdk.jfr.Recording;
+import org.example.gradingsystem.StudentGradingSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Flight Recorder events: grade overwrites and averages over
+ * 10,000-student courses, which emit an event on every call while the grading
+ * events are recorded, with no recording and with one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlightRecorderBenchmarks {
+    private static final int STUDENTS = 100_000;
+    private static final int COURSES = 10;
+
+    @State(Scope.Benchmark)
+    public static class Recorded {
+        @Param({"false", "true"})
+        public boolean recording;
+
+        StudentGradingSystem system;
+        String[] studentIds;
+        String[] courseCodes;
+        Recording jfr;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            system = new StudentGradingSystem();
+            courseCodes = new String[COURSES];
+            for (int c = 0; c < COURSES; c++) {
+                courseCodes[c] = "C" + c;
+                system.addCourse(courseCodes[c], "Course " + c);
+            }
+            studentIds = new String[STUDENTS];
+            for (int s = 0; s < STUDENTS; s++) {
+                studentIds[s] = "S" + s;
+                system.addStudent(studentIds[s], "Name" + s, "Surname" + s);
+                system.enrollStudentToCourse(studentIds[s], courseCodes[s % COURSES]);
+                system.assignGrade(studentIds[s], courseCodes[s % COURSES], s % 101);
+            }
+            if (recording) {
+                jfr = new Recording();
+                jfr.enable("org.example.gradingsystem.GradeOverwrite");
+                jfr.enable("org.example.gradingsystem.CourseAverage");
+                jfr.setToDisk(false);
+                jfr.start();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (jfr != null) {
+                jfr.close();
+            }
+        }
+    }
+
+    @Benchmark
+    public void assignGrade(Recorded state) {
+        int s = ThreadLocalRandom.current().nextInt(STUDENTS);
+        state.system.assignGrade(state.studentIds[s], state.courseCodes[s % COURSES], s % 101);
+    }
+
+    @Benchmark
+    public double calculateCourseAverage(Recorded state) {
+        return state.system.calculateCourseAverage(state.courseCodes[ThreadLocalRandom.current().nextInt(COURSES)]);
+    }
+}
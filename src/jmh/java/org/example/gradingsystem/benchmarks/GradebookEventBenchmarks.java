@@ -0,0 +1,96 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.ConcurrentStudentGradingSystem;
+import org.example.gradingsystem.GradebookEventDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cost of change events on the write path: assignGrade on a
+ * {@link ConcurrentStudentGradingSystem} with and without an attached
+ * {@link GradebookEventDispatcher} whose subscriber counts the events it receives.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GradebookEventBenchmarks {
+    private static final int STUDENTS = 100_000;
+    private static final int COURSES = 100;
+
+    @State(Scope.Benchmark)
+    public static class Publisher {
+        @Param({"false", "true"})
+        public boolean publishing;
+
+        ConcurrentStudentGradingSystem system;
+        String[] studentIds;
+        String[] courseCodes;
+        GradebookEventDispatcher dispatcher;
+        final LongAdder delivered = new LongAdder();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            system = new ConcurrentStudentGradingSystem();
+            courseCodes = new String[COURSES];
+            for (int c = 0; c < COURSES; c++) {
+                courseCodes[c] = "C" + c;
+                system.addCourse(courseCodes[c], "Course " + c);
+            }
+            studentIds = new String[STUDENTS];
+            for (int s = 0; s < STUDENTS; s++) {
+                studentIds[s] = "S" + s;
+                system.addStudent(studentIds[s], "Name" + s, "Surname" + s);
+                system.enrollStudentToCourse(studentIds[s], courseCodes[s % COURSES]);
+            }
+            if (publishing) {
+                dispatcher = new GradebookEventDispatcher();
+                dispatcher.subscribe(events -> delivered.add(events.size()));
+                system.attachEventDispatcher(dispatcher);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (dispatcher != null) {
+                system.attachEventDispatcher(null);
+                dispatcher.close();
+                System.out.println("delivered=" + delivered.sum() + " dropped=" + dispatcher.getDroppedCount());
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void assignGradeSingleWriter(Publisher publisher) {
+        assign(publisher);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void assignGradeFourWriters(Publisher publisher) {
+        assign(publisher);
+    }
+
+    private static void assign(Publisher publisher) {
+        int s = ThreadLocalRandom.current().nextInt(STUDENTS);
+        publisher.system.assignGrade(publisher.studentIds[s], publisher.courseCodes[s % COURSES], s % 101);
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.Course;
+import org.example.gradingsystem.GradingScale;
+import org.example.gradingsystem.PerformanceLevel;
+import org.example.gradingsystem.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the grading hot paths over a {@link GradingPopulation}.
+ * Run with {@code mvn -Pjmh verify}; the profile adds {@code -prof gc} so every
+ * result also reports the allocation rate per operation (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// A fixed heap so that the 1M-student population is not measured under heap resizing or GC pressure
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GradingBenchmarks {
+    private static final GradingScale PLUS_SCALE = new GradingScale(4.3, 3.3, 2.3, 1.3, 0.0);
+
+    @Benchmark
+    public void assignGrade(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        population.system.assignGrade(
+                population.studentIds[population.enrolledStudent[pair]],
+                population.courseCodes[population.enrolledCourse[pair]],
+                pair % 101);
+    }
+
+    @Benchmark
+    public double calculateCourseAverage(GradingPopulation population) {
+        // Picking the course of a random enrollment follows the popularity skew
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.calculateCourseAverage(population.courseCodes[population.enrolledCourse[pair]]);
+    }
+
+    @Benchmark
+    public double getCourseMedian(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.getCourseMedian(population.courseCodes[population.enrolledCourse[pair]]);
+    }
+
+    @Benchmark
+    public int getStudentRank(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.getStudentRank(
+                population.studentIds[population.enrolledStudent[pair]],
+                population.courseCodes[population.enrolledCourse[pair]]);
+    }
+
+    @Benchmark
+    public double getStudentGpa(GradingPopulation population) {
+        int student = ThreadLocalRandom.current().nextInt(population.students);
+        return population.system.getStudentGpa(population.studentIds[student]);
+    }
+
+    /**
+     * Alternates between two scales, so every call recomputes the GPA of every student.
+     */
+    @Benchmark
+    public void setGradingScale(GradingPopulation population) {
+        GradingScale current = population.system.getGradingScale();
+        population.system.setGradingScale(current == GradingScale.FOUR_POINT ? PLUS_SCALE : GradingScale.FOUR_POINT);
+    }
+
+    @Benchmark
+    public List<Student> getTopStudents(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.getTopStudents(population.courseCodes[population.enrolledCourse[pair]], 10);
+    }
+
+    @Benchmark
+    public Map<String, Integer> getLetterGradeDistribution(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.getLetterGradeDistribution(population.courseCodes[population.enrolledCourse[pair]]);
+    }
+
+    @Benchmark
+    public String evaluateStudentPerformance(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.evaluateStudentPerformance(
+                population.studentIds[population.enrolledStudent[pair]],
+                population.courseCodes[population.enrolledCourse[pair]]);
+    }
+
+    @Benchmark
+    public Map<PerformanceLevel, Integer> getCoursePerformanceCounts(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.getCoursePerformanceCounts(population.courseCodes[population.enrolledCourse[pair]]);
+    }
+
+    @Benchmark
+    public String determineExamEligibility(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.determineExamEligibility(
+                population.studentIds[population.enrolledStudent[pair]],
+                population.courseCodes[population.enrolledCourse[pair]],
+                (pair & 1) == 0, (pair & 6) == 0);
+    }
+
+    @Benchmark
+    public int getCourseEligibility(GradingPopulation population) {
+        int pair = ThreadLocalRandom.current().nextInt(population.pairCount());
+        return population.system.getCourseEligibility(population.courseCodes[population.enrolledCourse[pair]])
+                .getEligibleCount();
+    }
+
+    @Benchmark
+    public List<Student> findStudentsBySurnamePrefix(GradingPopulation population) {
+        int student = ThreadLocalRandom.current().nextInt(population.students);
+        return population.system.findStudentsBySurnamePrefix("Surname" + student, 0, 20);
+    }
+
+    /**
+     * Enrolls the population's students one by one into a fresh course; once all
+     * of them are enrolled the course is replaced, so duplicates are never measured.
+     */
+    @Benchmark
+    public void courseAddStudent(Enrollment enrollment) {
+        if (enrollment.next == enrollment.students.length) {
+            enrollment.course = new Course("BENCH", "Benchmark Course");
+            enrollment.next = 0;
+        }
+        enrollment.course.addStudent(enrollment.students[enrollment.next++]);
+    }
+
+    @State(Scope.Thread)
+    public static class Enrollment {
+        Student[] students;
+        Course course;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp(GradingPopulation population) {
+            students = new Student[population.students];
+            for (int s = 0; s < students.length; s++) {
+                students[s] = population.system.getStudentById(population.studentIds[s]);
+            }
+            course = new Course("BENCH", "Benchmark Course");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.StudentGradingSystem;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Shared benchmark population: a grading system with {@code students} students,
+ * {@code courses} courses and {@link #ENROLLMENTS_PER_STUDENT} graded enrollments
+ * per student. Course popularity follows a Zipf distribution with exponent
+ * {@code skew}; 0 means every course is equally likely.
+ *
+ * The default run stops at 1,000,000 students, which fits the 2 GB heap of the
+ * {@link GradingBenchmarks} fork. 10,000,000 students take roughly 7 GB; run them
+ * explicitly with a larger heap, e.g.
+ * {@code -Djmh.args="-p students=10000000 -jvmArgsAppend -Xmx12g GradingBenchmarks"}.
+ */
+@State(Scope.Benchmark)
+public class GradingPopulation {
+    static final int ENROLLMENTS_PER_STUDENT = 3;
+
+    @Param({"10000", "1000000"})
+    public int students;
+
+    @Param({"10", "500", "5000"})
+    public int courses;
+
+    @Param({"0.0", "1.2"})
+    public double skew;
+
+    StudentGradingSystem system;
+    String[] studentIds;
+    String[] courseCodes;
+    // Enrollment pairs: enrolledStudent[i] takes course enrolledCourse[i]
+    int[] enrolledStudent;
+    int[] enrolledCourse;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        SplittableRandom random = new SplittableRandom(42);
+        system = newSystem();
+        courseCodes = new String[courses];
+        for (int c = 0; c < courses; c++) {
+            courseCodes[c] = "C" + c;
+            system.addCourse(courseCodes[c], "Course " + c);
+        }
+        double[] popularity = cumulativePopularity();
+
+        studentIds = new String[students];
+        enrolledStudent = new int[students * ENROLLMENTS_PER_STUDENT];
+        enrolledCourse = new int[students * ENROLLMENTS_PER_STUDENT];
+        int pair = 0;
+        for (int s = 0; s < students; s++) {
+            studentIds[s] = "S" + s;
+            system.addStudent(studentIds[s], "Name" + s, "Surname" + s);
+            for (int e = 0; e < ENROLLMENTS_PER_STUDENT; e++) {
+                int course = pickCourse(popularity, random.nextDouble());
+                system.enrollStudentToCourse(studentIds[s], courseCodes[course]);
+                system.assignGrade(studentIds[s], courseCodes[course], random.nextInt(101));
+                enrolledStudent[pair] = s;
+                enrolledCourse[pair] = course;
+                pair++;
+            }
+        }
+    }
+
+    /**
+     * Hook for benchmarks that compare alternative system implementations.
+     */
+    protected StudentGradingSystem newSystem() {
+        return new StudentGradingSystem();
+    }
+
+    int pairCount() {
+        return enrolledStudent.length;
+    }
+
+    private double[] cumulativePopularity() {
+        double[] cumulative = new double[courses];
+        double total = 0;
+        for (int c = 0; c < courses; c++) {
+            total += 1.0 / Math.pow(c + 1, skew);
+            cumulative[c] = total;
+        }
+        for (int c = 0; c < courses; c++) {
+            cumulative[c] /= total;
+        }
+        return cumulative;
+    }
+
+    private static int pickCourse(double[] cumulative, double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.ConcurrentStudentGradingSystem;
+import org.example.gradingsystem.GradingHttpServer;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop load generator for {@link GradingHttpServer}: {@code clients} threads
+ * each send one request at a time for {@code seconds}, after a warmup of the same
+ * length, and the sustained requests per second and latency percentiles are printed.
+ * The mix is 50% grade assignments, 30% course averages and 20% performance lookups.
+ *
+ * Not a JMH benchmark. Build with {@code mvn -Pjmh package} and run
+ * {@code java -cp target/classes org.example.gradingsystem.benchmarks.HttpLoadGenerator [clients] [seconds]}.
+ */
+public final class HttpLoadGenerator {
+    private static final int STUDENTS = 100_000;
+    private static final int COURSES = 100;
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        // Without it each response body waits for the client's delayed ACK; see GradingHttpServer
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        ConcurrentStudentGradingSystem system = new ConcurrentStudentGradingSystem();
+        for (int c = 0; c < COURSES; c++) {
+            system.addCourse("C" + c, "Course " + c);
+        }
+        for (int s = 0; s < STUDENTS; s++) {
+            system.addStudent("S" + s, "Name" + s, "Surname" + s);
+            system.enrollStudentToCourse("S" + s, "C" + (s % COURSES));
+        }
+
+        try (GradingHttpServer server = GradingHttpServer.start(system,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            String base = "http://localhost:" + server.getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            System.out.println("Server on " + base + (server.isUsingVirtualThreads()
+                    ? " with virtual threads" : " with a thread pool") + ", " + clients + " clients");
+            run(client, base, clients, seconds);
+            Result result = run(client, base, clients, seconds);
+            long[] latencies = result.latencies;
+            Arrays.sort(latencies);
+            System.out.printf("requests=%d errors=%d throughput=%.0f req/s p50=%.3f ms p99=%.3f ms p999=%.3f ms%n",
+                    latencies.length, result.errors, latencies.length / (double) seconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999));
+        }
+    }
+
+    private static final class Result {
+        long[] latencies = new long[0];
+        long errors;
+    }
+
+    private static Result run(HttpClient client, String base, int clients, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        long[][] perClient = new long[clients][];
+        long[] errors = new long[clients];
+        Thread[] threads = new Thread[clients];
+        for (int t = 0; t < clients; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                long[] latencies = new long[1 << 16];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = nextRequest(base);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() >= 300) {
+                            errors[index]++;
+                        }
+                    } catch (Exception e) {
+                        errors[index]++;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                perClient[index] = Arrays.copyOf(latencies, count);
+            }, "load-" + t);
+            threads[t].start();
+        }
+        Result result = new Result();
+        for (int t = 0; t < clients; t++) {
+            threads[t].join();
+            int offset = result.latencies.length;
+            result.latencies = Arrays.copyOf(result.latencies, offset + perClient[t].length);
+            System.arraycopy(perClient[t], 0, result.latencies, offset, perClient[t].length);
+            result.errors += errors[t];
+        }
+        return result;
+    }
+
+    private static HttpRequest nextRequest(String base) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int student = random.nextInt(STUDENTS);
+        String course = "C" + (student % COURSES);
+        int kind = random.nextInt(10);
+        if (kind < 5) {
+            return HttpRequest.newBuilder(URI.create(base + "/courses/" + course + "/grades/S" + student
+                    + "?score=" + random.nextInt(101))).PUT(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        String path = kind < 8 ? "/courses/" + course + "/average"
+                : "/courses/" + course + "/performance?studentId=S" + student;
+        return HttpRequest.newBuilder(URI.create(base + path)).GET().build();
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.StudentGradingSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converting a term's scores to letters: the scalar
+ * {@link StudentGradingSystem#convertScoreToLetterGrade} in a loop against the batch
+ * {@link StudentGradingSystem#convertScoresToLetterGrades}. Scores are uniform over
+ * 0-100 so the scalar chain of comparisons cannot be predicted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LetterGradeBenchmarks {
+
+    @Param({"10000", "12000000"})
+    public int scoreCount;
+
+    double[] scores;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        SplittableRandom random = new SplittableRandom(42);
+        scores = new double[scoreCount];
+        for (int i = 0; i < scoreCount; i++) {
+            scores[i] = random.nextInt(10001) / 100.0;
+        }
+    }
+
+    @Benchmark
+    public byte[] scalar() {
+        byte[] letters = new byte[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            letters[i] = (byte) StudentGradingSystem.convertScoreToLetterGrade(scores[i]).charAt(0);
+        }
+        return letters;
+    }
+
+    @Benchmark
+    public byte[] batch() {
+        return StudentGradingSystem.convertScoresToLetterGrades(scores);
+    }
+}
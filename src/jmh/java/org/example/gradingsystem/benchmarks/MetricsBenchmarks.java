@@ -0,0 +1,78 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.StudentGradingSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the latency instrumentation: the timed calls of a
+ * {@link StudentGradingSystem} with its metrics disabled and enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmarks {
+    private static final int STUDENTS = 100_000;
+    private static final int COURSES = 10;
+
+    @State(Scope.Benchmark)
+    public static class Instrumented {
+        @Param({"false", "true"})
+        public boolean enabled;
+
+        StudentGradingSystem system;
+        String[] studentIds;
+        String[] courseCodes;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            system = new StudentGradingSystem();
+            courseCodes = new String[COURSES];
+            for (int c = 0; c < COURSES; c++) {
+                courseCodes[c] = "C" + c;
+                system.addCourse(courseCodes[c], "Course " + c);
+            }
+            studentIds = new String[STUDENTS];
+            for (int s = 0; s < STUDENTS; s++) {
+                studentIds[s] = "S" + s;
+                system.addStudent(studentIds[s], "Name" + s, "Surname" + s);
+                system.enrollStudentToCourse(studentIds[s], courseCodes[s % COURSES]);
+                system.assignGrade(studentIds[s], courseCodes[s % COURSES], s % 101);
+            }
+            system.getMetrics().reset();
+            system.getMetrics().setEnabled(enabled);
+        }
+    }
+
+    @Benchmark
+    public void assignGrade(Instrumented state) {
+        int s = ThreadLocalRandom.current().nextInt(STUDENTS);
+        state.system.assignGrade(state.studentIds[s], state.courseCodes[s % COURSES], s % 101);
+    }
+
+    @Benchmark
+    public double calculateCourseAverage(Instrumented state) {
+        return state.system.calculateCourseAverage(state.courseCodes[ThreadLocalRandom.current().nextInt(COURSES)]);
+    }
+
+    @Benchmark
+    public String evaluateStudentPerformance(Instrumented state) {
+        int s = ThreadLocalRandom.current().nextInt(STUDENTS);
+        return state.system.evaluateStudentPerformance(state.studentIds[s], state.courseCodes[s % COURSES]);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.ConcurrentStudentGradingSystem;
+import org.example.gradingsystem.GradebookView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-write cost of copy-on-write read snapshots: assignGrade on a
+ * {@link ConcurrentStudentGradingSystem} while a new {@link GradebookView} is
+ * taken every {@code snapshotEvery} writes (0 = never). The first write to each
+ * segment after a snapshot copies that segment, so the cost depends on how often
+ * snapshots are taken, not on how long reports hold them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadSnapshotBenchmarks {
+    private static final int STUDENTS = 100_000;
+    private static final int COURSES = 10;
+
+    @State(Scope.Thread)
+    public static class Gradebook {
+        @Param({"0", "10000", "100"})
+        public int snapshotEvery;
+
+        ConcurrentStudentGradingSystem system;
+        String[] studentIds;
+        String[] courseCodes;
+        GradebookView view;
+        int writes;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            system = new ConcurrentStudentGradingSystem();
+            courseCodes = new String[COURSES];
+            for (int c = 0; c < COURSES; c++) {
+                courseCodes[c] = "C" + c;
+                system.addCourse(courseCodes[c], "Course " + c);
+            }
+            studentIds = new String[STUDENTS];
+            for (int s = 0; s < STUDENTS; s++) {
+                studentIds[s] = "S" + s;
+                system.addStudent(studentIds[s], "Name" + s, "Surname" + s);
+                system.enrollStudentToCourse(studentIds[s], courseCodes[s % COURSES]);
+                system.assignGrade(studentIds[s], courseCodes[s % COURSES], s % 101);
+            }
+        }
+    }
+
+    @Benchmark
+    public GradebookView assignGrade(Gradebook gradebook) {
+        if (gradebook.snapshotEvery > 0 && ++gradebook.writes == gradebook.snapshotEvery) {
+            gradebook.writes = 0;
+            gradebook.view = gradebook.system.readSnapshot();
+        }
+        int s = ThreadLocalRandom.current().nextInt(STUDENTS);
+        gradebook.system.assignGrade(gradebook.studentIds[s], gradebook.courseCodes[s % COURSES], s % 101);
+        return gradebook.view;
+    }
+
+    @Benchmark
+    public GradebookView readSnapshot(Gradebook gradebook) {
+        return gradebook.system.readSnapshot();
+    }
+}
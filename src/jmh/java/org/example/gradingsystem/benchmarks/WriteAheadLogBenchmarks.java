@@ -0,0 +1,99 @@
+package org.example.gradingsystem.benchmarks;
+
+import org.example.gradingsystem.ConcurrentStudentGradingSystem;
+import org.example.gradingsystem.WriteAheadLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of durability: assignGrade on a {@link ConcurrentStudentGradingSystem}
+ * with and without an attached {@link WriteAheadLog}. With several threads the
+ * durable variant shows how many submissions share one group-commit fsync.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteAheadLogBenchmarks {
+    private static final int STUDENTS = 100_000;
+    private static final int COURSES = 100;
+
+    @State(Scope.Benchmark)
+    public static class Journal {
+        @Param({"false", "true"})
+        public boolean durable;
+
+        ConcurrentStudentGradingSystem system;
+        String[] studentIds;
+        String[] courseCodes;
+        Path directory;
+        WriteAheadLog log;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            system = new ConcurrentStudentGradingSystem();
+            courseCodes = new String[COURSES];
+            for (int c = 0; c < COURSES; c++) {
+                courseCodes[c] = "C" + c;
+                system.addCourse(courseCodes[c], "Course " + c);
+            }
+            studentIds = new String[STUDENTS];
+            for (int s = 0; s < STUDENTS; s++) {
+                studentIds[s] = "S" + s;
+                system.addStudent(studentIds[s], "Name" + s, "Surname" + s);
+                system.enrollStudentToCourse(studentIds[s], courseCodes[s % COURSES]);
+            }
+            if (durable) {
+                directory = Files.createTempDirectory("wal-bench");
+                log = WriteAheadLog.open(directory.resolve("gradebook.wal"));
+                system.attachWriteAheadLog(log);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            if (log != null) {
+                system.attachWriteAheadLog(null);
+                log.close();
+                Files.deleteIfExists(directory.resolve("gradebook.wal"));
+                Files.deleteIfExists(directory);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void assignGradeSingleWriter(Journal journal) {
+        assign(journal);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void assignGradeEightWriters(Journal journal) {
+        assign(journal);
+    }
+
+    private static void assign(Journal journal) {
+        int s = ThreadLocalRandom.current().nextInt(STUDENTS);
+        journal.system.assignGrade(journal.studentIds[s], journal.courseCodes[s % COURSES], s % 101);
+    }
+}
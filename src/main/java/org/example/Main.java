@@ -1,17 +1,26 @@
 package org.example;
 
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
-public class Main {
-    public static void main(String[] args) {
-        //TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-        // to see how IntelliJ IDEA suggests fixing it.
-        System.out.printf("Hello and welcome!");
+import org.example.gradingsystem.ConcurrentStudentGradingSystem;
+import org.example.gradingsystem.GradingHttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
 
-        for (int i = 1; i <= 5; i++) {
-            //TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-            // for you, but you can always add more by pressing <shortcut actionId="ToggleLineBreakpoint"/>.
-            System.out.println("i = " + i);
+/**
+ * Serves an empty {@link ConcurrentStudentGradingSystem} over HTTP until the JVM is stopped.
+ * Usage: {@code java org.example.Main [port]}, port 8080 by default.
+ */
+public class Main {
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        // Without it each response body waits for the client's delayed ACK; see GradingHttpServer
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
         }
+        GradingHttpServer server = GradingHttpServer.start(
+                new ConcurrentStudentGradingSystem(), new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Grading API listening on http://localhost:" + server.getPort()
+                + (server.isUsingVirtualThreads() ? " (virtual threads)" : " (thread pool)"));
     }
-}
\ No newline at end of file
+}
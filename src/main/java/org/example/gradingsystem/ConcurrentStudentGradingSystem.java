@@ -0,0 +1,263 @@
+package org.example.gradingsystem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe {@link StudentGradingSystem} built on lock striping.
+ *
+ * Students and courses live in {@link ConcurrentHashMap}s. Every student ID and
+ * course code hashes to one of a fixed number of lock stripes, so writes to
+ * different students and courses proceed in parallel. Writers that touch both a
+ * student and a course always take the student stripe first, then the course stripe.
+ *
+ * {@link #calculateCourseAverage(String)} reads under an optimistic stamp and never
+ * acquires a lock, so readers cannot hold up grading; a reader that overlaps a
+ * write to the same stripe retries, spinning briefly and then parking for up to
+ * a millisecond between attempts.
+ *
+ * Student IDs and course codes must not be null. Objects handed out by
+ * {@link #getCourses()}, {@link #getCourse(String)} and {@link #getStudentById(String)}
+ * are live and must not be mutated or iterated while other threads write to them;
+ * iterate a {@link #readSnapshot()} instead.
+ */
+public class ConcurrentStudentGradingSystem extends StudentGradingSystem {
+    private static final int DEFAULT_STRIPES = 64;
+    // Failed optimistic reads of courseAverage that spin before it starts parking
+    private static final int SPIN_ATTEMPTS = 4;
+    private static final long MAX_BACKOFF_NANOS = 1_000_000;
+
+    private final StampedLock[] studentLocks;
+    private final StampedLock[] courseLocks;
+
+    public ConcurrentStudentGradingSystem() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes number of lock stripes for students and for courses; rounded up to a power of two
+     */
+    public ConcurrentStudentGradingSystem(int stripes) {
+        super(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive.");
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        studentLocks = newLocks(size);
+        courseLocks = newLocks(size);
+    }
+
+    @Override
+    void registerStudent(String id, String name, String surname) {
+        StampedLock studentLock = studentLock(id);
+        long stamp = studentLock.writeLock();
+        try {
+            super.registerStudent(id, name, surname);
+        } finally {
+            studentLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    void registerCourse(String code, String name) {
+        StampedLock courseLock = courseLock(code);
+        long stamp = courseLock.writeLock();
+        try {
+            super.registerCourse(code, name);
+        } finally {
+            courseLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    void enroll(Student student, Course course) {
+        writeBoth(student.getId(), course.getCourseCode(), () -> super.enroll(student, course));
+    }
+
+    @Override
+    void assignGrade(Student student, Course course, double score) {
+        writeBoth(student.getId(), course.getCourseCode(), () -> super.assignGrade(student, course, score));
+    }
+
+    @Override
+    void recordAttendance(Student student, Course course, boolean attendanceComplete) {
+        writeCourse(course.getCourseCode(), () -> super.recordAttendance(student, course, attendanceComplete));
+    }
+
+    @Override
+    void recordDisciplinePenalty(Student student, Course course, boolean hasDisciplinePenalty) {
+        writeCourse(course.getCourseCode(), () -> super.recordDisciplinePenalty(student, course, hasDisciplinePenalty));
+    }
+
+    @Override
+    double courseAverage(String courseCode) {
+        StampedLock courseLock = courseLock(courseCode);
+        for (int attempt = 0; ; attempt++) {
+            long stamp = courseLock.tryOptimisticRead();
+            if (stamp != 0) {
+                double average = super.courseAverage(courseCode);
+                if (courseLock.validate(stamp)) {
+                    return average;
+                }
+            }
+            // Backing off instead of taking the read lock, which would hold writers off
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(Math.min(MAX_BACKOFF_NANOS, 1_000L << Math.min(attempt - SPIN_ATTEMPTS, 10)));
+            }
+        }
+    }
+
+    @Override
+    public double getCoursePercentile(String courseCode, double percentile) {
+        return read(courseLock(courseCode), () -> super.getCoursePercentile(courseCode, percentile));
+    }
+
+    @Override
+    public int getStudentRank(String studentId, String courseCode) {
+        return read(courseLock(courseCode), () -> super.getStudentRank(studentId, courseCode));
+    }
+
+    // The first leaderboard query of a course builds its ranking, so these take the write lock
+    @Override
+    public List<Student> getTopStudents(String courseCode, int k) {
+        return write(courseLock(courseCode), () -> super.getTopStudents(courseCode, k));
+    }
+
+    @Override
+    public List<Student> getBottomStudents(String courseCode, int k) {
+        return write(courseLock(courseCode), () -> super.getBottomStudents(courseCode, k));
+    }
+
+    @Override
+    public int[] getScoreHistogram(String courseCode, int bucketCount) {
+        return read(courseLock(courseCode), () -> super.getScoreHistogram(courseCode, bucketCount));
+    }
+
+    @Override
+    public Map<String, Integer> getLetterGradeDistribution(String courseCode) {
+        return read(courseLock(courseCode), () -> super.getLetterGradeDistribution(courseCode));
+    }
+
+    @Override
+    public PerformanceLevel[] evaluateCoursePerformance(String courseCode) {
+        return read(courseLock(courseCode), () -> super.evaluateCoursePerformance(courseCode));
+    }
+
+    @Override
+    public Map<PerformanceLevel, Integer> getCoursePerformanceCounts(String courseCode) {
+        return read(courseLock(courseCode), () -> super.getCoursePerformanceCounts(courseCode));
+    }
+
+    @Override
+    public EligibilityPartition getCourseEligibility(String courseCode) {
+        return read(courseLock(courseCode), () -> super.getCourseEligibility(courseCode));
+    }
+
+    // Holds every course stripe for the instant it takes to share the segments,
+    // so the view is consistent across courses
+    @Override
+    public GradebookView readSnapshot() {
+        long[] stamps = new long[courseLocks.length];
+        for (int i = 0; i < courseLocks.length; i++) {
+            stamps[i] = courseLocks[i].writeLock();
+        }
+        try {
+            return super.readSnapshot();
+        } finally {
+            for (int i = courseLocks.length - 1; i >= 0; i--) {
+                courseLocks[i].unlockWrite(stamps[i]);
+            }
+        }
+    }
+
+    @Override
+    Student.Summary summaryOf(Student student) {
+        return read(studentLock(student.getId()), () -> super.summaryOf(student));
+    }
+
+    @Override
+    String studentPerformance(String studentId, String courseCode) {
+        return read(studentLock(studentId), () -> super.studentPerformance(studentId, courseCode));
+    }
+
+    @Override
+    String examEligibility(String studentId, String courseCode,
+                           boolean attendanceComplete, boolean hasDisciplinePenalty) {
+        return read(studentLock(studentId), () ->
+                super.examEligibility(studentId, courseCode, attendanceComplete, hasDisciplinePenalty));
+    }
+
+    private void writeCourse(String courseCode, Runnable action) {
+        StampedLock courseLock = courseLock(courseCode);
+        long stamp = courseLock.writeLock();
+        try {
+            action.run();
+        } finally {
+            courseLock.unlockWrite(stamp);
+        }
+    }
+
+    private void writeBoth(String studentId, String courseCode, Runnable action) {
+        StampedLock studentLock = studentLock(studentId);
+        StampedLock courseLock = courseLock(courseCode);
+        long studentStamp = studentLock.writeLock();
+        try {
+            long courseStamp = courseLock.writeLock();
+            try {
+                action.run();
+            } finally {
+                courseLock.unlockWrite(courseStamp);
+            }
+        } finally {
+            studentLock.unlockWrite(studentStamp);
+        }
+    }
+
+    private static <T> T write(StampedLock lock, Supplier<T> action) {
+        long stamp = lock.writeLock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static <T> T read(StampedLock lock, Supplier<T> action) {
+        long stamp = lock.readLock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private StampedLock studentLock(String studentId) {
+        return stripe(studentLocks, studentId);
+    }
+
+    private StampedLock courseLock(String courseCode) {
+        return stripe(courseLocks, courseCode);
+    }
+
+    private static StampedLock stripe(StampedLock[] locks, String key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    }
+
+    private static StampedLock[] newLocks(int size) {
+        StampedLock[] locks = new StampedLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new StampedLock();
+        }
+        return locks;
+    }
+}
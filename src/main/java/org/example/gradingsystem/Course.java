@@ -6,15 +6,65 @@ import java.util.List;
 public class Course {
     private final String courseCode;
     private final String courseName;
-    private final List<Student> enrolledStudents = new ArrayList<>();
+    private final int courseId;
+    private final Enrollments enrollments;
+    // Grades of enrolled students by enrollment position, kept current by StudentGradingSystem.assignGrade
+    private final GradeColumn grades = new GradeColumn();
+    // Set by GradebookSnapshot.open until the first use of the course
+    private Loader pending;
 
     public Course(String courseCode, String courseName) {
+        this(courseCode, courseName, CourseCodeDictionary.UNKNOWN);
+    }
+
+    /**
+     * Creates a course with the dense ID assigned by {@link StudentGradingSystem#addCourse}.
+     */
+    Course(String courseCode, String courseName, int courseId) {
+        this(courseCode, courseName, courseId, new HeapEnrollments());
+    }
+
+    Course(String courseCode, String courseName, int courseId, Enrollments enrollments) {
         this.courseCode = courseCode;
         this.courseName = courseName;
+        this.courseId = courseId;
+        this.enrollments = enrollments;
+    }
+
+    /**
+     * Loads enrollments and grades kept elsewhere, e.g. in a mapped snapshot.
+     */
+    interface Loader {
+        void load(Enrollments enrollments, GradeColumn grades);
+    }
+
+    /**
+     * Defers loading this course's enrollments and grades until the course is first used.
+     */
+    void loadLazily(Loader loader) {
+        pending = loader;
+    }
+
+    private Enrollments enrollments() {
+        materialize();
+        return enrollments;
+    }
+
+    private GradeColumn grades() {
+        materialize();
+        return grades;
+    }
+
+    private void materialize() {
+        Loader loader = pending;
+        if (loader != null) {
+            pending = null;
+            loader.load(enrollments, grades);
+        }
     }
 
     public int getStudentCount() {
-        return enrolledStudents.size();
+        return enrollments().size();
     }
 
     // Getters
@@ -26,14 +76,85 @@ public class Course {
         return courseName;
     }
 
+    /**
+     * Dense ID of this course within its grading system, or -1 if the course
+     * was not created through {@link StudentGradingSystem#addCourse}.
+     */
+    public int getCourseId() {
+        return courseId;
+    }
+
     public List<Student> getEnrolledStudents() {
-        return enrolledStudents;
+        return enrollments().students();
+    }
+
+    public double getGradeSum() {
+        return grades().sum();
+    }
+
+    public int getGradedCount() {
+        return grades().gradedCount();
+    }
+
+    GradeColumn getGradeColumn() {
+        return grades();
+    }
+
+    public boolean isEnrolled(String studentId) {
+        return enrollments().positionOf(studentId) >= 0;
+    }
+
+    // Enrollment position of a student, or -1 if not enrolled
+    int positionOf(Student student) {
+        return enrollments().positionOf(student);
+    }
+
+    List<Student> studentsAt(int[] positions) {
+        List<Student> selected = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            selected.add(enrollments().get(position));
+        }
+        return selected;
+    }
+
+    // Must not overlap a write to this course
+    CourseView view() {
+        return new CourseView(courseCode, courseName, enrollments().snapshot(), grades().snapshot());
+    }
+
+    EligibilityPartition eligibility() {
+        return grades().eligibility(enrollments().students().toArray(new Student[0]));
     }
 
     // Methods
     public void addStudent(Student student) {
-        if (!enrolledStudents.contains(student)) {
-            enrolledStudents.add(student);
+        if (enrollments().append(student)) {
+            // A student may have been graded before enrolling
+            grades().append(student == null ? GradeTable.NO_GRADE : student.getGrade(courseCode));
+        }
+    }
+
+    /**
+     * Enrolls a student with a grade already known to the caller, e.g. read from a
+     * snapshot, instead of looking it up; returns false if the student was enrolled.
+     */
+    boolean addStudent(Student student, double grade) {
+        if (!enrollments().append(student)) {
+            return false;
+        }
+        grades().append(grade);
+        return true;
+    }
+
+    /**
+     * Stores the grade of an enrolled student in this course's grade column;
+     * grades of students who are not enrolled are ignored. Only called by
+     * {@link StudentGradingSystem#assignGrade}, together with the student's own grade.
+     */
+    void recordGrade(Student student, double score) {
+        int position = enrollments().positionOf(student);
+        if (position >= 0) {
+            grades().set(position, score);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package org.example.gradingsystem;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns dense int IDs (0, 1, 2, ...) to course codes. Grades are stored and
+ * looked up by these IDs; the String-based API translates through this class.
+ * Lookups are lock-free; interning a new code is serialized.
+ */
+final class CourseCodeDictionary {
+    static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] codes = new String[16];
+    private int size;
+
+    int idOf(String courseCode) {
+        if (courseCode == null) {
+            return UNKNOWN;
+        }
+        Integer id = ids.get(courseCode);
+        return id == null ? UNKNOWN : id;
+    }
+
+    int intern(String courseCode) {
+        int id = idOf(courseCode);
+        return id != UNKNOWN ? id : internSlow(courseCode);
+    }
+
+    private synchronized int internSlow(String courseCode) {
+        if (courseCode == null) {
+            throw new IllegalArgumentException("Course code cannot be null");
+        }
+        Integer id = ids.get(courseCode);
+        if (id == null) {
+            id = size;
+            String[] table = size == codes.length ? Arrays.copyOf(codes, size * 2) : codes;
+            table[size++] = courseCode;
+            // Publish the code before its ID becomes visible to lock-free readers
+            codes = table;
+            ids.put(courseCode, id);
+        }
+        return id;
+    }
+
+    String codeOf(int courseId) {
+        return codes[courseId];
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
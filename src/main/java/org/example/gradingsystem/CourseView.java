@@ -0,0 +1,72 @@
+package org.example.gradingsystem;
+
+import java.util.List;
+
+/**
+ * A course as captured by {@link StudentGradingSystem#readSnapshot()}: its
+ * enrollments and grades at that moment, unaffected by later writes. The
+ * {@link Student} objects are shared with the live system, so read grades here
+ * rather than through {@link Student#getCourseGrades()}.
+ */
+public final class CourseView {
+    private final String courseCode;
+    private final String courseName;
+    private final List<Student> enrolledStudents;
+    private final double[][] scores;
+
+    CourseView(String courseCode, String courseName, List<Student> enrolledStudents, double[][] scores) {
+        this.courseCode = courseCode;
+        this.courseName = courseName;
+        this.enrolledStudents = enrolledStudents;
+        this.scores = scores;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public int getStudentCount() {
+        return enrolledStudents.size();
+    }
+
+    /**
+     * Enrolled students in enrollment order; unmodifiable.
+     */
+    public List<Student> getEnrolledStudents() {
+        return enrolledStudents;
+    }
+
+    /**
+     * Grade of the student at {@code position} of {@link #getEnrolledStudents()}, or -1.0 if ungraded.
+     */
+    public double getGrade(int position) {
+        if (position < 0 || position >= enrolledStudents.size()) {
+            throw new IndexOutOfBoundsException("Position out of range: " + position);
+        }
+        return scores[position >> GradeColumn.SEGMENT_SHIFT][position & (GradeColumn.SEGMENT_SIZE - 1)];
+    }
+
+    /**
+     * Mean of the graded scores, or 0.0 if none are graded.
+     */
+    public double calculateAverage() {
+        double sum = 0.0;
+        int count = 0;
+        int remaining = enrolledStudents.size();
+        for (double[] segment : scores) {
+            int length = Math.min(remaining, segment.length);
+            for (int i = 0; i < length; i++) {
+                if (segment[i] != GradeTable.NO_GRADE) {
+                    sum += segment[i];
+                    count++;
+                }
+            }
+            remaining -= length;
+        }
+        return count == 0 ? 0.0 : sum / count;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.gradingsystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exam eligibility of every student enrolled in a course, as produced by
+ * {@link StudentGradingSystem#getCourseEligibility(String)}. Each group is a
+ * bitmap over enrollment positions; student lists are built on request.
+ */
+public final class EligibilityPartition {
+    private final Student[] students;
+    private final long[] eligible;
+    private final long[] conditional;
+    private final long[] notEligible;
+
+    EligibilityPartition(Student[] students, long[] eligible, long[] conditional, long[] notEligible) {
+        this.students = students;
+        this.eligible = eligible;
+        this.conditional = conditional;
+        this.notEligible = notEligible;
+    }
+
+    public List<Student> getEligible() {
+        return select(eligible);
+    }
+
+    public List<Student> getConditional() {
+        return select(conditional);
+    }
+
+    public List<Student> getNotEligible() {
+        return select(notEligible);
+    }
+
+    public int getEligibleCount() {
+        return count(eligible);
+    }
+
+    public int getConditionalCount() {
+        return count(conditional);
+    }
+
+    public int getNotEligibleCount() {
+        return count(notEligible);
+    }
+
+    /**
+     * Status of the student at an enrollment position, as returned by
+     * {@link StudentGradingSystem#determineExamEligibility}.
+     */
+    public String getStatus(int position) {
+        if (position < 0 || position >= students.length) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        long bit = 1L << position;
+        if ((eligible[position >> 6] & bit) != 0) return "Eligible";
+        if ((conditional[position >> 6] & bit) != 0) return "Conditional";
+        return "Not Eligible";
+    }
+
+    private List<Student> select(long[] bits) {
+        List<Student> selected = new ArrayList<>(count(bits));
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                selected.add(students[(word << 6) + Long.numberOfTrailingZeros(remaining)]);
+                remaining &= remaining - 1;
+            }
+        }
+        return Collections.unmodifiableList(selected);
+    }
+
+    private static int count(long[] bits) {
+        int total = 0;
+        for (long word : bits) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+}
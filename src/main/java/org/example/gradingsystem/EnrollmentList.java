@@ -0,0 +1,65 @@
+package org.example.gradingsystem;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Append-only list of the students enrolled in a course, in segments of
+ * {@link GradeColumn#SEGMENT_SIZE} aligned with the course's grade column.
+ * A filled slot is never written again, so {@link #snapshot()} only copies the
+ * segment pointers and the size.
+ */
+final class EnrollmentList extends AbstractList<Student> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The first segment grows up to SEGMENT_SIZE
+    private Student[][] segments = {new Student[INITIAL_CAPACITY]};
+    private int size;
+
+    EnrollmentList() {
+    }
+
+    private EnrollmentList(Student[][] segments, int size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Student get(int index) {
+        Objects.checkIndex(index, size);
+        return segments[index >> GradeColumn.SEGMENT_SHIFT][index & (GradeColumn.SEGMENT_SIZE - 1)];
+    }
+
+    @Override
+    public boolean add(Student student) {
+        int segment = size >> GradeColumn.SEGMENT_SHIFT;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segment * 2);
+        }
+        if (segments[segment] == null) {
+            segments[segment] = new Student[GradeColumn.SEGMENT_SIZE];
+        } else if (segment == 0 && size == segments[0].length) {
+            segments[0] = Arrays.copyOf(segments[0], size * 2);
+        }
+        segments[segment][size & (GradeColumn.SEGMENT_SIZE - 1)] = student;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Unmodifiable list of the students enrolled so far; later enrollments do not appear in it.
+     */
+    List<Student> snapshot() {
+        return Collections.unmodifiableList(new EnrollmentList(segments.clone(), size));
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.gradingsystem;
+
+import java.util.List;
+
+/**
+ * Students enrolled in a {@link Course}, in enrollment order, with the position of
+ * each student; positions index the course's {@link GradeColumn}. Append-only.
+ */
+interface Enrollments {
+
+    int size();
+
+    Student get(int position);
+
+    // Enrollment position of a student, or -1 if not enrolled
+    int positionOf(Student student);
+
+    int positionOf(String studentId);
+
+    // Appends a student at position size(), or returns false if it is already enrolled
+    boolean append(Student student);
+
+    // Live unmodifiable list of the enrolled students
+    List<Student> students();
+
+    // Unmodifiable list of the students enrolled so far; later enrollments do not appear in it
+    List<Student> snapshot();
+}
@@ -0,0 +1,135 @@
+package org.example.gradingsystem;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder events of {@link StudentGradingSystem}, under the category
+ * "Grading System". Each carries the course code, the course's enrollment size and
+ * the duration of the operation. Only costly or unusual operations are recorded:
+ * averages over courses of at least {@value #LARGE_ENROLLMENT} students, bulk
+ * enrollments, grade overwrites and eligibility failures. Durations can be raised
+ * further with the {@code threshold} setting of each event.
+ *
+ * CourseAverage and BulkEnrollment are rare and coarse, so they are recorded without
+ * a threshold whenever a recording runs. GradeOverwrite and EligibilityFailure can
+ * fire on every call of a hot path and take microseconds, so no duration threshold
+ * would separate them; they are disabled by default and have to be enabled
+ * explicitly, e.g. {@code +org.example.gradingsystem.GradeOverwrite#enabled=true}.
+ */
+final class FlightRecorderEvents {
+    static final int LARGE_ENROLLMENT = 10_000;
+
+    private FlightRecorderEvents() {
+    }
+
+    @Name("org.example.gradingsystem.CourseAverage")
+    @Label("Course Average")
+    @Category("Grading System")
+    @Description("Average computed over a course with a large enrollment")
+    @StackTrace(false)
+    @Threshold("0 ns")
+    static final class CourseAverage extends Event {
+        @Label("Course Code")
+        String courseCode;
+        @Label("Enrollment Size")
+        int enrollmentSize;
+        @Label("Average")
+        double average;
+
+        void commitIfLarge(Course course, double average) {
+            if (course != null && course.getStudentCount() >= LARGE_ENROLLMENT) {
+                courseCode = course.getCourseCode();
+                enrollmentSize = course.getStudentCount();
+                this.average = average;
+                commit();
+            }
+        }
+    }
+
+    @Name("org.example.gradingsystem.BulkEnrollment")
+    @Label("Bulk Enrollment")
+    @Category("Grading System")
+    @Description("Enrollments loaded into one course by a snapshot load or a CSV import")
+    @StackTrace(false)
+    @Threshold("0 ns")
+    static final class BulkEnrollment extends Event {
+        @Label("Course Code")
+        String courseCode;
+        @Label("Enrollment Size")
+        int enrollmentSize;
+        @Label("Enrolled")
+        @Description("Enrollment rows applied by this operation")
+        int enrolled;
+        @Label("Source")
+        String source;
+
+        void commit(Course course, int enrolled, String source) {
+            courseCode = course.getCourseCode();
+            enrollmentSize = course.getStudentCount();
+            this.enrolled = enrolled;
+            this.source = source;
+            commit();
+        }
+    }
+
+    @Name("org.example.gradingsystem.GradeOverwrite")
+    @Label("Grade Overwrite")
+    @Category("Grading System")
+    @Description("Grade assignment that replaced an existing grade")
+    @StackTrace(false)
+    @Enabled(false)
+    static final class GradeOverwrite extends Event {
+        @Label("Course Code")
+        String courseCode;
+        @Label("Enrollment Size")
+        int enrollmentSize;
+        @Label("Student ID")
+        String studentId;
+        @Label("Old Score")
+        double oldScore;
+        @Label("New Score")
+        double newScore;
+
+        void commit(Student student, Course course, double oldScore, double newScore) {
+            courseCode = course.getCourseCode();
+            enrollmentSize = course.getStudentCount();
+            studentId = student.getId();
+            this.oldScore = oldScore;
+            this.newScore = newScore;
+            commit();
+        }
+    }
+
+    @Name("org.example.gradingsystem.EligibilityFailure")
+    @Label("Eligibility Failure")
+    @Category("Grading System")
+    @Description("Exam eligibility check with Not Eligible students")
+    @StackTrace(false)
+    @Enabled(false)
+    static final class EligibilityFailure extends Event {
+        @Label("Course Code")
+        String courseCode;
+        @Label("Enrollment Size")
+        int enrollmentSize;
+        @Label("Student ID")
+        @Description("Checked student, or null for a whole-course check")
+        String studentId;
+        @Label("Not Eligible")
+        int notEligibleCount;
+
+        void commit(Course course, String studentId, int notEligibleCount) {
+            courseCode = course.getCourseCode();
+            enrollmentSize = course.getStudentCount();
+            this.studentId = studentId;
+            this.notEligibleCount = notEligibleCount;
+            commit();
+        }
+    }
+}
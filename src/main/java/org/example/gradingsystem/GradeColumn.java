@@ -0,0 +1,292 @@
+package org.example.gradingsystem;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+/**
+ * Course-major grade storage: scores plus a presence bitmap, both indexed by
+ * enrollment position. Aggregations walk the arrays sequentially instead of
+ * chasing per-student grade tables.
+ *
+ * Scores live in segments of {@value #SEGMENT_SIZE} that are copied on write once
+ * a {@link #snapshot()} shares them, so a snapshot stays fixed while grading goes on.
+ */
+final class GradeColumn {
+    private static final int INITIAL_CAPACITY = 16;
+    static final int SEGMENT_SHIFT = 10;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    // Ungraded positions hold NO_GRADE; the first segment grows up to SEGMENT_SIZE
+    private double[][] segments = {new double[INITIAL_CAPACITY]};
+    // Snapshot count when each segment was last copied; an older segment may be shared
+    private int[] segmentVersions = new int[1];
+    private int version;
+    private long[] gradedBits = new long[1];
+    // Exam-day flags per position, recorded separately from grades
+    private long[] attendanceBits = new long[1];
+    private long[] penaltyBits = new long[1];
+    private int size;
+
+    // Running totals over the graded positions
+    private double gradeSum;
+    private int gradedCount;
+    private final int[] letterCounts = new int[5];
+    // Allocated with the first grade
+    private ScoreDistribution distribution;
+    // Graded positions from highest to lowest score, ties in position order; built by the
+    // first top/bottom query, so only courses with a leaderboard pay for keeping it current
+    private TreeSet<Integer> ranking;
+
+    int size() {
+        return size;
+    }
+
+    double sum() {
+        return gradeSum;
+    }
+
+    int gradedCount() {
+        return gradedCount;
+    }
+
+    /**
+     * Adds a position at the end of the column, holding {@code score} or no grade (-1.0).
+     */
+    int append(double score) {
+        int segment = size >> SEGMENT_SHIFT;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segment * 2);
+            segmentVersions = Arrays.copyOf(segmentVersions, segment * 2);
+        }
+        if (segments[segment] == null) {
+            segments[segment] = new double[SEGMENT_SIZE];
+            segmentVersions[segment] = version;
+        } else if (segment == 0 && size == segments[0].length) {
+            segments[0] = Arrays.copyOf(segments[0], size * 2);
+            segmentVersions[0] = version;
+        }
+        // Beyond the size of every snapshot, so no copy is needed
+        segments[segment][size & SEGMENT_MASK] = GradeTable.NO_GRADE;
+        if (size >> 6 == gradedBits.length) {
+            gradedBits = Arrays.copyOf(gradedBits, gradedBits.length * 2);
+            attendanceBits = Arrays.copyOf(attendanceBits, gradedBits.length);
+            penaltyBits = Arrays.copyOf(penaltyBits, gradedBits.length);
+        }
+        int position = size++;
+        if (score != GradeTable.NO_GRADE) {
+            set(position, score);
+        }
+        return position;
+    }
+
+    boolean isGraded(int position) {
+        return (gradedBits[position >> 6] & (1L << position)) != 0;
+    }
+
+    double get(int position) {
+        return score(position);
+    }
+
+    private double score(int position) {
+        return segments[position >> SEGMENT_SHIFT][position & SEGMENT_MASK];
+    }
+
+    void set(int position, double score) {
+        if (distribution == null) {
+            distribution = new ScoreDistribution();
+        }
+        if (isGraded(position)) {
+            // Must leave the ranking before its sort key changes
+            if (ranking != null) {
+                ranking.remove(position);
+            }
+            double old = score(position);
+            gradeSum -= old;
+            distribution.remove(old);
+            letterCounts[letterIndex(old)]--;
+        } else {
+            gradedBits[position >> 6] |= 1L << position;
+            gradedCount++;
+        }
+        int segment = position >> SEGMENT_SHIFT;
+        if (segmentVersions[segment] != version) {
+            segments[segment] = segments[segment].clone();
+            segmentVersions[segment] = version;
+        }
+        segments[segment][position & SEGMENT_MASK] = score;
+        gradeSum += score;
+        distribution.add(score);
+        letterCounts[letterIndex(score)]++;
+        if (ranking != null) {
+            ranking.add(position);
+        }
+    }
+
+    boolean isAttendanceComplete(int position) {
+        return (attendanceBits[position >> 6] & (1L << position)) != 0;
+    }
+
+    void setAttendanceComplete(int position, boolean complete) {
+        setBit(attendanceBits, position, complete);
+    }
+
+    boolean hasDisciplinePenalty(int position) {
+        return (penaltyBits[position >> 6] & (1L << position)) != 0;
+    }
+
+    void setDisciplinePenalty(int position, boolean penalty) {
+        setBit(penaltyBits, position, penalty);
+    }
+
+    private static void setBit(long[] bits, int position, boolean value) {
+        if (value) {
+            bits[position >> 6] |= 1L << position;
+        } else {
+            bits[position >> 6] &= ~(1L << position);
+        }
+    }
+
+    /**
+     * Applies the exam eligibility decision table to every position, 64 at a time:
+     * missing attendance or a discipline penalty makes a position Not Eligible,
+     * otherwise it is Eligible if graded and Conditional if not.
+     */
+    EligibilityPartition eligibility(Student[] students) {
+        int words = (size + 63) >> 6;
+        long[] eligible = new long[words];
+        long[] conditional = new long[words];
+        long[] notEligible = new long[words];
+        for (int word = 0; word < words; word++) {
+            long inRange = word == words - 1 && (size & 63) != 0 ? (1L << size) - 1 : -1L;
+            long cleared = attendanceBits[word] & ~penaltyBits[word] & inRange;
+            eligible[word] = cleared & gradedBits[word];
+            conditional[word] = cleared & ~gradedBits[word];
+            notEligible[word] = ~cleared & inRange;
+        }
+        return new EligibilityPartition(students, eligible, conditional, notEligible);
+    }
+
+    /**
+     * 1-based rank of a graded position, highest score first. Scores in the same
+     * 0.1-wide bucket share a rank.
+     */
+    int rank(int position) {
+        return distribution.countAbove(score(position)) + 1;
+    }
+
+    /**
+     * Positions of the {@code k} highest scores, best first; fewer if fewer are graded.
+     */
+    int[] topPositions(int k) {
+        return firstPositions(ranking().iterator(), k);
+    }
+
+    /**
+     * Positions of the {@code k} lowest scores, worst first.
+     */
+    int[] bottomPositions(int k) {
+        return firstPositions(ranking().descendingIterator(), k);
+    }
+
+    private TreeSet<Integer> ranking() {
+        if (ranking == null) {
+            ranking = new TreeSet<>((a, b) -> {
+                int byScore = Double.compare(score(b), score(a));
+                return byScore != 0 ? byScore : Integer.compare(a, b);
+            });
+            for (int word = 0; word < gradedBits.length; word++) {
+                long bits = gradedBits[word];
+                while (bits != 0) {
+                    ranking.add((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return ranking;
+    }
+
+    private int[] firstPositions(Iterator<Integer> order, int k) {
+        int[] positions = new int[Math.min(k, gradedCount)];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = order.next();
+        }
+        return positions;
+    }
+
+    /**
+     * Nearest-rank percentile of the graded scores, {@code percentile} in 0-100;
+     * see {@link ScoreDistribution} for the error bound. 0.0 if nothing is graded.
+     */
+    double percentile(double percentile) {
+        return gradedCount == 0 ? 0.0 : distribution.percentile(percentile);
+    }
+
+    /**
+     * Counts graded scores in {@code bucketCount} equal-width buckets over 0-100;
+     * a score of exactly 100 falls into the last bucket.
+     */
+    int[] histogram(int bucketCount) {
+        int[] buckets = new int[bucketCount];
+        double scale = bucketCount / 100.0;
+        for (int word = 0; word < gradedBits.length; word++) {
+            long bits = gradedBits[word];
+            while (bits != 0) {
+                int position = (word << 6) + Long.numberOfTrailingZeros(bits);
+                buckets[Math.min((int) (score(position) * scale), bucketCount - 1)]++;
+                bits &= bits - 1;
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Counts graded scores per letter grade, indexed A, B, C, D, F. The counts are
+     * maintained by {@link #set}, so this is a copy of five ints.
+     */
+    int[] letterGradeCounts() {
+        return letterCounts.clone();
+    }
+
+    /**
+     * Performance level of every position in enrollment order; ungraded positions are NO_GRADE.
+     */
+    PerformanceLevel[] performanceLevels() {
+        PerformanceLevel[] levels = new PerformanceLevel[size];
+        for (int position = 0; position < size; position++) {
+            levels[position] = PerformanceLevel.of(get(position));
+        }
+        return levels;
+    }
+
+    /**
+     * Number of positions per performance level, indexed by ordinal.
+     */
+    int[] performanceCounts() {
+        int[] counts = new int[PerformanceLevel.values().length];
+        for (int position = 0; position < size; position++) {
+            counts[PerformanceLevel.of(get(position)).ordinal()]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Scores of the first {@link #size()} positions at this moment, NO_GRADE where
+     * ungraded, in segments of {@value #SEGMENT_SIZE}. Costs one pointer per segment;
+     * later writes copy a shared segment before changing it.
+     */
+    double[][] snapshot() {
+        version++;
+        return Arrays.copyOf(segments, (size + SEGMENT_MASK) >> SEGMENT_SHIFT);
+    }
+
+    // Same thresholds as StudentGradingSystem.convertScoreToLetterGrade
+    static int letterIndex(double score) {
+        if (score >= 90) return 0;
+        if (score >= 80) return 1;
+        if (score >= 70) return 2;
+        if (score >= 60) return 3;
+        return 4;
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.gradingsystem;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Open-addressing map from course ID to score, stored in parallel primitive
+ * arrays so that grades are kept without boxed keys, values or entry nodes.
+ * Uses linear probing; the tables are allocated on the first grade.
+ */
+final class GradeTable {
+    static final double NO_GRADE = -1.0;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    // Slots hold courseId + 1 so that 0 marks an empty slot
+    private int[] keys;
+    private double[] values;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    double get(int courseId) {
+        if (size == 0 || courseId < 0) {
+            return NO_GRADE;
+        }
+        int slot = findSlot(keys, courseId + 1);
+        return keys[slot] == 0 ? NO_GRADE : values[slot];
+    }
+
+    void put(int courseId, double value) {
+        if (keys == null) {
+            keys = new int[INITIAL_CAPACITY];
+            values = new double[INITIAL_CAPACITY];
+        }
+        int slot = findSlot(keys, courseId + 1);
+        if (keys[slot] == 0) {
+            keys[slot] = courseId + 1;
+            size++;
+        }
+        values[slot] = value;
+        if (size * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+    }
+
+    void forEach(GradeConsumer consumer) {
+        for (int slot = 0; size > 0 && slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(keys[slot] - 1, values[slot]);
+            }
+        }
+    }
+
+    interface GradeConsumer {
+        void accept(int courseId, double score);
+    }
+
+    /**
+     * Read-only {@link Map} view keyed by course code; values are boxed only when read.
+     */
+    Map<String, Double> asMap(CourseCodeDictionary courseCodes) {
+        return new View(courseCodes);
+    }
+
+    private static int findSlot(int[] table, int storedKey) {
+        int mask = table.length - 1;
+        int hash = storedKey * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (table[slot] != 0 && table[slot] != storedKey) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        double[] oldValues = values;
+        keys = new int[capacity];
+        values = new double[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = findSlot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private final class View extends AbstractMap<String, Double> {
+        private final CourseCodeDictionary courseCodes;
+
+        private View(CourseCodeDictionary courseCodes) {
+            this.courseCodes = courseCodes;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String
+                    && GradeTable.this.get(courseCodes.idOf((String) key)) != NO_GRADE;
+        }
+
+        @Override
+        public Double get(Object key) {
+            return containsKey(key) ? GradeTable.this.get(courseCodes.idOf((String) key)) : null;
+        }
+
+        @Override
+        public Set<Entry<String, Double>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<String, Double>> iterator() {
+                    return new Iterator<>() {
+                        private final int[] tableKeys = keys == null ? new int[0] : keys;
+                        private final double[] tableValues = values;
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < tableKeys.length && tableKeys[from] == 0) {
+                                from++;
+                            }
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < tableKeys.length;
+                        }
+
+                        @Override
+                        public Entry<String, Double> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Double> entry = new SimpleImmutableEntry<>(
+                                    courseCodes.codeOf(tableKeys[next] - 1), tableValues[next]);
+                            next = advance(next + 1);
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
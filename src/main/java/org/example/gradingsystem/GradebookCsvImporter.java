@@ -0,0 +1,226 @@
+package org.example.gradingsystem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams CSV files into a {@link StudentGradingSystem} one line at a time, so
+ * files of any size are loaded without being held in memory.
+ *
+ * Expected columns (an optional header line with exactly these names is skipped):
+ * - students:    id,name,surname
+ * - courses:     code,name
+ * - enrollments: studentId,courseCode
+ * - grades:      studentId,courseCode,score
+ *
+ * Fields are comma separated and may be enclosed in double quotes ("" escapes a
+ * quote). A row that is malformed or rejected by the system is recorded in the
+ * {@link ImportReport} and the import continues with the next row.
+ *
+ * Enrollment and grade files are usually grouped by student or course, so the
+ * importer keeps the last resolved student and course and only looks up an ID
+ * again when it changes between rows.
+ */
+public class GradebookCsvImporter {
+    private final StudentGradingSystem system;
+
+    public GradebookCsvImporter(StudentGradingSystem system) {
+        this.system = system;
+    }
+
+    public ImportReport importStudents(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importStudents(reader);
+        }
+    }
+
+    public ImportReport importCourses(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importCourses(reader);
+        }
+    }
+
+    public ImportReport importEnrollments(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importEnrollments(reader);
+        }
+    }
+
+    public ImportReport importGrades(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importGrades(reader);
+        }
+    }
+
+    public ImportReport importStudents(Reader reader) throws IOException {
+        return importRows(reader, "id,name,surname", fields -> system.registerStudent(fields[0], fields[1], fields[2]));
+    }
+
+    public ImportReport importCourses(Reader reader) throws IOException {
+        return importRows(reader, "code,name", fields -> system.registerCourse(fields[0], fields[1]));
+    }
+
+    public ImportReport importEnrollments(Reader reader) throws IOException {
+        Resolver resolver = new Resolver();
+        EnrollmentRuns runs = new EnrollmentRuns();
+        try {
+            return importRows(reader, "studentId,courseCode", fields -> {
+                Course course = resolver.course(fields[1]);
+                system.enroll(resolver.student(fields[0]), course);
+                runs.enrolled(course);
+            });
+        } finally {
+            runs.finish();
+        }
+    }
+
+    public ImportReport importGrades(Reader reader) throws IOException {
+        Resolver resolver = new Resolver();
+        return importRows(reader, "studentId,courseCode,score", fields -> {
+            Student student = resolver.student(fields[0]);
+            Course course = resolver.course(fields[1]);
+            system.assignGrade(student, course, parseScore(fields[2]));
+        });
+    }
+
+    private ImportReport importRows(Reader reader, String header, RowHandler handler) throws IOException {
+        int columns = header.split(",").length;
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        ImportReport report = new ImportReport();
+        List<String> fields = new ArrayList<>(columns);
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && line.trim().equalsIgnoreCase(header))) {
+                continue;
+            }
+            try {
+                splitFields(line, fields);
+                if (fields.size() != columns) {
+                    throw new IllegalArgumentException("Expected " + columns + " fields but found " + fields.size() + ".");
+                }
+                handler.apply(fields.toArray(new String[0]));
+                report.rowImported();
+            } catch (IllegalArgumentException e) {
+                report.rowRejected(lineNumber, e.getMessage());
+            }
+        }
+        // One durability wait for the whole file when a write-ahead log is attached
+        system.syncWriteAheadLog();
+        return report;
+    }
+
+    static void splitFields(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(field.toString().trim());
+    }
+
+    private static double parseScore(String value) {
+        double score;
+        try {
+            score = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid score '" + value + "'.");
+        }
+        // parseDouble also accepts "NaN" and "Infinity"
+        if (!Double.isFinite(score)) {
+            throw new IllegalArgumentException("Invalid score '" + value + "'.");
+        }
+        return score;
+    }
+
+    private interface RowHandler {
+        void apply(String[] fields);
+    }
+
+    // Emits one BulkEnrollment event per run of consecutive rows for the same course
+    private static final class EnrollmentRuns {
+        private final boolean enabled = new FlightRecorderEvents.BulkEnrollment().isEnabled();
+        private FlightRecorderEvents.BulkEnrollment event;
+        private Course course;
+        private int enrolled;
+
+        void enrolled(Course next) {
+            if (!enabled) {
+                return;
+            }
+            if (next != course) {
+                finish();
+                course = next;
+                event = new FlightRecorderEvents.BulkEnrollment();
+                event.begin();
+            }
+            enrolled++;
+        }
+
+        void finish() {
+            if (event != null) {
+                event.commit(course, enrolled, "csv");
+                event = null;
+                enrolled = 0;
+            }
+        }
+    }
+
+    // Remembers the last student and course looked up, for files grouped by either
+    private final class Resolver {
+        private String studentId;
+        private Student student;
+        private String courseCode;
+        private Course course;
+
+        Student student(String id) {
+            if (student == null || !id.equals(studentId)) {
+                student = system.getStudentById(id);
+                studentId = id;
+                if (student == null) {
+                    throw new IllegalArgumentException("Student or Course not found.");
+                }
+            }
+            return student;
+        }
+
+        Course course(String code) {
+            if (course == null || !code.equals(courseCode)) {
+                course = system.getCourse(code);
+                courseCode = code;
+                if (course == null) {
+                    throw new IllegalArgumentException("Student or Course not found.");
+                }
+            }
+            return course;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.gradingsystem;
+
+/**
+ * A change published by a {@link StudentGradingSystem} to its
+ * {@link GradebookEventDispatcher}. Fields that do not apply to the type are null
+ * (IDs) or -1.0 (scores).
+ */
+public final class GradebookEvent {
+    public enum Type {
+        STUDENT_ADDED,
+        COURSE_ADDED,
+        ENROLLED,
+        GRADE_ASSIGNED,
+        GRADE_OVERWRITTEN
+    }
+
+    private final Type type;
+    private final String studentId;
+    private final String courseCode;
+    private final double oldScore;
+    private final double newScore;
+
+    GradebookEvent(Type type, String studentId, String courseCode, double oldScore, double newScore) {
+        this.type = type;
+        this.studentId = studentId;
+        this.courseCode = courseCode;
+        this.oldScore = oldScore;
+        this.newScore = newScore;
+    }
+
+    static GradebookEvent studentAdded(String studentId) {
+        return new GradebookEvent(Type.STUDENT_ADDED, studentId, null, GradeTable.NO_GRADE, GradeTable.NO_GRADE);
+    }
+
+    static GradebookEvent courseAdded(String courseCode) {
+        return new GradebookEvent(Type.COURSE_ADDED, null, courseCode, GradeTable.NO_GRADE, GradeTable.NO_GRADE);
+    }
+
+    static GradebookEvent enrolled(String studentId, String courseCode) {
+        return new GradebookEvent(Type.ENROLLED, studentId, courseCode, GradeTable.NO_GRADE, GradeTable.NO_GRADE);
+    }
+
+    static GradebookEvent gradeChanged(String studentId, String courseCode, double oldScore, double newScore) {
+        Type type = oldScore == GradeTable.NO_GRADE ? Type.GRADE_ASSIGNED : Type.GRADE_OVERWRITTEN;
+        return new GradebookEvent(type, studentId, courseCode, oldScore, newScore);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    /**
+     * Previous grade of a GRADE_OVERWRITTEN event; -1.0 otherwise.
+     */
+    public double getOldScore() {
+        return oldScore;
+    }
+
+    /**
+     * New grade of a grade event; -1.0 otherwise.
+     */
+    public double getNewScore() {
+        return newScore;
+    }
+
+    boolean isGradeChange() {
+        return type == Type.GRADE_ASSIGNED || type == Type.GRADE_OVERWRITTEN;
+    }
+
+    @Override
+    public String toString() {
+        return type + "[student=" + studentId + ", course=" + courseCode
+                + ", old=" + oldScore + ", new=" + newScore + "]";
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.gradingsystem;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers the {@link GradebookEvent}s of a {@link StudentGradingSystem} to
+ * {@link GradebookListener}s, attached with
+ * {@link StudentGradingSystem#attachEventDispatcher(GradebookEventDispatcher)}.
+ *
+ * Publishing never blocks: events go into a bounded lock-free queue, and an event
+ * that finds the queue full is dropped and counted in {@link #getDroppedCount()}.
+ * A single dispatcher thread drains the queue in batches of up to
+ * {@code maxBatchSize}. When the queue is empty it parks until the next publish,
+ * then lingers for {@value #LINGER_MILLIS} ms so a batch can build up; publishers
+ * only wake it early once a full batch is waiting. An idle dispatcher thus costs no
+ * wakeups, and a busy one costs one handoff per batch rather than per event.
+ *
+ * Within a batch, adjacent grade changes of the same student and course are
+ * coalesced into one event from the first old score to the last new score, so a
+ * burst of regrading reaches subscribers as one change; a burst that ends at the
+ * score it started from, e.g. 70 to 80 and back to 70, is dropped. Changes separated
+ * by other events stay separate, so events are never reordered.
+ */
+public final class GradebookEventDispatcher implements Closeable {
+    static final long LINGER_MILLIS = 1;
+
+    private final int capacity;
+    private final int maxBatchSize;
+    private final Queue<GradebookEvent> queue = new ConcurrentLinkedQueue<>();
+    // Events in the queue; may briefly exceed the queue size while publishers race
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failedDeliveries = new AtomicLong();
+    // Set by the dispatcher before it parks on an empty queue; the next publisher clears it and unparks
+    private final AtomicBoolean idle = new AtomicBoolean();
+    private final List<GradebookListener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread dispatcher;
+    private volatile boolean closed;
+
+    public GradebookEventDispatcher() {
+        this(65_536, 1024);
+    }
+
+    /**
+     * @param capacity     most events waiting for delivery before new ones are dropped
+     * @param maxBatchSize most events handed to a listener in one call
+     */
+    public GradebookEventDispatcher(int capacity, int maxBatchSize) {
+        if (capacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive.");
+        }
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.dispatcher = new Thread(this::dispatchLoop, "gradebook-events");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public void subscribe(GradebookListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(GradebookListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Events dropped because the queue was full or the dispatcher was closed.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Listener calls that threw; the other listeners still received the batch.
+     */
+    public long getFailedDeliveryCount() {
+        return failedDeliveries.get();
+    }
+
+    void publish(GradebookEvent event) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        int waiting = queued.getAndIncrement();
+        if (waiting >= capacity) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.offer(event);
+        if (closed && queue.remove(event)) {
+            // close() ran concurrently and the dispatcher may already have drained for the last time
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        if (waiting + 1 == maxBatchSize || (idle.get() && idle.compareAndSet(true, false))) {
+            LockSupport.unpark(dispatcher);
+        }
+    }
+
+    private void dispatchLoop() {
+        List<GradebookEvent> batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        while (true) {
+            GradebookEvent event;
+            while (batch.size() < maxBatchSize && (event = queue.poll()) != null) {
+                queued.decrementAndGet();
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                if (closed) {
+                    return;
+                }
+                idle.set(true);
+                // Re-checked after announcing idleness, so a publish in between is not missed
+                while (idle.get() && queue.isEmpty() && !closed) {
+                    LockSupport.park(this);
+                }
+                idle.set(false);
+                if (!closed) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(LINGER_MILLIS));
+                }
+                continue;
+            }
+            deliver(coalesce(batch));
+            batch.clear();
+        }
+    }
+
+    private void deliver(List<GradebookEvent> events) {
+        for (GradebookListener listener : listeners) {
+            try {
+                listener.onEvents(events);
+            } catch (RuntimeException e) {
+                // A failing subscriber must not stop delivery to the others
+                failedDeliveries.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Merges each run of adjacent grade changes of one student and course into one
+     * event from the first old score to the last new score, and drops grade changes
+     * that end where they started. Events keep their order.
+     */
+    static List<GradebookEvent> coalesce(List<GradebookEvent> batch) {
+        List<GradebookEvent> merged = new ArrayList<>(batch.size());
+        for (GradebookEvent event : batch) {
+            if (!event.isGradeChange()) {
+                merged.add(event);
+                continue;
+            }
+            GradebookEvent last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && last.isGradeChange() && last.getStudentId().equals(event.getStudentId())
+                    && last.getCourseCode().equals(event.getCourseCode())) {
+                merged.remove(merged.size() - 1);
+                event = GradebookEvent.gradeChanged(
+                        event.getStudentId(), event.getCourseCode(), last.getOldScore(), event.getNewScore());
+            }
+            if (Double.compare(event.getOldScore(), event.getNewScore()) != 0) {
+                merged.add(event);
+            }
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * Delivers the events already published and stops the dispatcher thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.gradingsystem;
+
+import java.util.List;
+
+/**
+ * Subscriber of a {@link GradebookEventDispatcher}. Called on the dispatcher
+ * thread with batches of events in publication order.
+ */
+@FunctionalInterface
+public interface GradebookListener {
+    void onEvents(List<GradebookEvent> events);
+}
@@ -0,0 +1,544 @@
+package org.example.gradingsystem;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot of a {@link StudentGradingSystem}, used to restart
+ * without replaying every call from the upstream system.
+ *
+ * Layout (big-endian; strings are an int byte length followed by UTF-8 bytes, -1 for null):
+ * <pre>
+ * int    MAGIC, short VERSION
+ * int    codeCount,    codeCount x string              course code dictionary, in ID order
+ * int    courseCount,  courseCount x (int codeId, string name, int enrolled)
+ * int    studentCount
+ * slabs  n x (int length, length bytes), int -1          student records as {@link OffHeapStudentStore} lays them out
+ * int    indexCapacity, indexCapacity x long             the store's ID index
+ * studentCount x int                                     record key of each student, in write order
+ * per course, in the same order: enrolled x int recordKey (-1 = null entry),
+ *                                enrolled x byte examFlags, enrolled x double score (-1.0 = ungraded)
+ * </pre>
+ * examFlags holds attendance complete in bit 0 and discipline penalty in bit 1.
+ * Version 1 files (no examFlags) and version 2 files (students as strings and grades,
+ * enrollments as student indexes, no scores) still load.
+ *
+ * {@link #open} maps the student records and the index privately and returns an
+ * {@link OffHeapStudentGradingSystem} working on them in place, so opening costs one
+ * mapping per 16 MB slab regardless of the number of students; a course reads its
+ * block the first time it is used; the file must be writable for the private
+ * mapping. {@link #read} and {@link #load} instead rebuild the given kind of system
+ * eagerly. {@link #write} replaces the file atomically, so
+ * systems opened from the previous snapshot keep working.
+ */
+public final class GradebookSnapshot {
+    static final int MAGIC = 0x53475342; // "SGSB"
+    static final short VERSION = 3;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    // Bytes per entry of a course block: int recordKey, byte examFlags, double score
+    private static final int ENROLLMENT_BYTES = Integer.BYTES + 1 + Double.BYTES;
+
+    private GradebookSnapshot() {
+    }
+
+    public static void write(StudentGradingSystem system, Path file) throws IOException {
+        // A system opened from the old file keeps its mapping of the replaced inode
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Output out = new Output(channel);
+            out.putInt(MAGIC);
+            out.putShort(VERSION);
+
+            CourseCodeDictionary codes = system.courseCodes();
+            List<Course> courses = new ArrayList<>(system.getCourses().values());
+            for (Course course : courses) {
+                codes.intern(course.getCourseCode());
+            }
+            courses.sort(Comparator.comparingInt(course -> codes.idOf(course.getCourseCode())));
+            int codeCount = codes.size();
+            out.putInt(codeCount);
+            for (int id = 0; id < codeCount; id++) {
+                out.putString(codes.codeOf(id));
+            }
+
+            out.putInt(courses.size());
+            for (Course course : courses) {
+                out.putInt(codes.idOf(course.getCourseCode()));
+                out.putString(course.getCourseName());
+                out.putInt(course.getStudentCount());
+            }
+
+            RecordKeys recordKeys = new RecordKeys(system);
+            int[] writeOrder = new int[system.students().size()];
+            out.putInt(writeOrder.length);
+            OffHeapStudentStore.ImageWriter image = new OffHeapStudentStore.ImageWriter(writeOrder.length, out::putSlab);
+            int written = 0;
+            for (Student student : system.students()) {
+                int key = image.add(student);
+                writeOrder[written++] = key;
+                recordKeys.put(student, key);
+            }
+            image.finish();
+            out.putInt(-1);
+            ByteBuffer index = image.index();
+            out.putInt(index.capacity() / Long.BYTES);
+            out.putBuffer(index);
+            for (int key : writeOrder) {
+                out.putInt(key);
+            }
+
+            for (Course course : courses) {
+                List<Student> enrolled = course.getEnrolledStudents();
+                GradeColumn column = course.getGradeColumn();
+                for (Student student : enrolled) {
+                    out.putInt(recordKeys.get(student));
+                }
+                for (int position = 0; position < enrolled.size(); position++) {
+                    out.putByte((byte) ((column.isAttendanceComplete(position) ? 1 : 0)
+                            | (column.hasDisciplinePenalty(position) ? 2 : 0)));
+                }
+                for (int position = 0; position < enrolled.size(); position++) {
+                    out.putDouble(column.get(position));
+                }
+            }
+            out.flush();
+            channel.force(false);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static StudentGradingSystem read(Path file) throws IOException {
+        StudentGradingSystem system = new StudentGradingSystem();
+        load(file, system);
+        return system;
+    }
+
+    /**
+     * Loads a snapshot into an empty system, e.g. a {@link ConcurrentStudentGradingSystem}.
+     */
+    public static void load(Path file, StudentGradingSystem system) throws IOException {
+        if (system.getStudentCount() != 0 || !system.getCourses().isEmpty()) {
+            throw new IllegalArgumentException("Snapshot can only be loaded into an empty system.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer in = mapHeader(channel, file);
+            short version = in.getShort();
+            // Interning the codes first reproduces the original course IDs
+            String[] codeById = getCodes(in, system.courseCodes());
+            if (version == VERSION) {
+                loadImage(channel, file, locate(channel, file, in, codeById), system);
+                return;
+            }
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GB: " + file);
+            }
+
+            Course[] courses = new Course[in.getInt()];
+            for (int i = 0; i < courses.length; i++) {
+                String code = codeById[in.getInt()];
+                system.addCourse(code, getString(in));
+                courses[i] = system.getCourse(code);
+            }
+
+            Student[] students = new Student[in.getInt()];
+            for (int i = 0; i < students.length; i++) {
+                String id = getString(in);
+                system.addStudent(id, getString(in), getString(in));
+                Student student = system.getStudentById(id);
+                int gradeCount = in.getInt();
+                for (int g = 0; g < gradeCount; g++) {
+                    student.addGrade(in.getInt(), in.getDouble());
+                }
+                students[i] = student;
+            }
+
+            // Enrolling after grading lets each course pick up existing grades
+            for (Course course : courses) {
+                FlightRecorderEvents.BulkEnrollment event = new FlightRecorderEvents.BulkEnrollment();
+                event.begin();
+                GradeColumn column = course.getGradeColumn();
+                int enrolled = in.getInt();
+                for (int e = 0; e < enrolled; e++) {
+                    int index = in.getInt();
+                    int examFlags = version == 1 ? 0 : in.get();
+                    int position = course.getStudentCount();
+                    course.addStudent(index < 0 ? null : students[index]);
+                    if (course.getStudentCount() > position) {
+                        column.setAttendanceComplete(position, (examFlags & 1) != 0);
+                        column.setDisciplinePenalty(position, (examFlags & 2) != 0);
+                    }
+                }
+                if (enrolled > 0 && event.isEnabled()) {
+                    event.commit(course, enrolled, "snapshot");
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupt snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Opens a snapshot as an {@link OffHeapStudentGradingSystem} over the mapped file.
+     * Students are read and graded in place through a private (copy-on-write) mapping,
+     * so changes never reach the file. Such a mapping needs a channel opened for
+     * writing, so the file must be writable even though it is never written; use
+     * {@link #read} for a read-only file. Courses load their enrollments from the file
+     * when first used. Snapshots older than version 3 are loaded eagerly instead.
+     *
+     * @throws java.nio.file.AccessDeniedException if the file is not writable
+     */
+    public static OffHeapStudentGradingSystem open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer in = mapHeader(channel, file);
+            if (in.getShort() != VERSION) {
+                OffHeapStudentGradingSystem system = new OffHeapStudentGradingSystem();
+                load(file, system);
+                return system;
+            }
+            CourseCodeDictionary codes = new CourseCodeDictionary();
+            Image image = locate(channel, file, in, getCodes(in, codes));
+            OffHeapStudentStore store = new OffHeapStudentStore(codes,
+                    image.mapSlabs(channel, FileChannel.MapMode.PRIVATE),
+                    map(channel, file, FileChannel.MapMode.PRIVATE, image.indexOffset, image.indexBytes()),
+                    image.studentCount);
+            OffHeapStudentGradingSystem system = new OffHeapStudentGradingSystem(store, codes);
+            for (int i = 0; i < image.courseCodes.length; i++) {
+                system.addCourse(image.courseCodes[i], image.courseNames[i]);
+                Course course = system.getCourse(image.courseCodes[i]);
+                int enrolled = image.enrolled[i];
+                if (enrolled > 0) {
+                    ByteBuffer block = map(channel, file, FileChannel.MapMode.READ_ONLY,
+                            image.blockOffsets[i], (long) enrolled * ENROLLMENT_BYTES);
+                    course.loadLazily((enrollments, grades) ->
+                            loadBlock(course, (OffHeapEnrollments) enrollments, grades, block, enrolled));
+                }
+            }
+            return system;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupt snapshot: " + file, e);
+        }
+    }
+
+    // Fills a course of an opened snapshot from its block; only courses created by open() get here
+    private static void loadBlock(Course course, OffHeapEnrollments enrollments, GradeColumn grades,
+                                  ByteBuffer block, int enrolled) {
+        FlightRecorderEvents.BulkEnrollment event = new FlightRecorderEvents.BulkEnrollment();
+        event.begin();
+        for (int e = 0; e < enrolled; e++) {
+            int key = block.getInt(e * Integer.BYTES);
+            // An off-heap course cannot hold the null entry a heap course may have had
+            if (key < 0) {
+                continue;
+            }
+            enrollments.load(key);
+            int position = grades.append(block.getDouble(enrolled * (Integer.BYTES + 1) + e * Double.BYTES));
+            int examFlags = block.get(enrolled * Integer.BYTES + e);
+            grades.setAttendanceComplete(position, (examFlags & 1) != 0);
+            grades.setDisciplinePenalty(position, (examFlags & 2) != 0);
+        }
+        if (event.isEnabled()) {
+            event.commit(course, enrolled, "snapshot");
+        }
+    }
+
+    // Eager load of a version 3 file: copies each record out of a read-only view of the slabs
+    private static void loadImage(FileChannel channel, Path file, Image image, StudentGradingSystem system)
+            throws IOException {
+        Course[] courses = new Course[image.courseCodes.length];
+        for (int i = 0; i < courses.length; i++) {
+            system.addCourse(image.courseCodes[i], image.courseNames[i]);
+            courses[i] = system.getCourse(image.courseCodes[i]);
+        }
+
+        OffHeapStudentStore stored = new OffHeapStudentStore(system.courseCodes(),
+                image.mapSlabs(channel, FileChannel.MapMode.READ_ONLY),
+                map(channel, file, FileChannel.MapMode.READ_ONLY, image.indexOffset, image.indexBytes()),
+                image.studentCount);
+        ByteBuffer keyBytes = map(channel, file, FileChannel.MapMode.READ_ONLY,
+                image.keysOffset, (long) image.studentCount * Integer.BYTES);
+        int[] keys = new int[image.studentCount];
+        keyBytes.asIntBuffer().get(keys);
+        Student[] students = new Student[keys.length];
+        for (int i = 0; i < students.length; i++) {
+            // The writer lays records out in order, so a binary search finds a student by key
+            if (i > 0 && keys[i] <= keys[i - 1]) {
+                throw new IOException("Truncated or corrupt snapshot: " + file);
+            }
+            Student record = stored.studentAt(keys[i]);
+            String id = record.getId();
+            system.addStudent(id, record.getName(), record.getSurname());
+            Student student = system.getStudentById(id);
+            record.forEachGrade(student::addGrade);
+            students[i] = student;
+        }
+
+        // The blocks carry each enrollment's grade, so the students' grade tables are not consulted
+        for (int i = 0; i < courses.length; i++) {
+            FlightRecorderEvents.BulkEnrollment event = new FlightRecorderEvents.BulkEnrollment();
+            event.begin();
+            Course course = courses[i];
+            GradeColumn column = course.getGradeColumn();
+            int enrolled = image.enrolled[i];
+            ByteBuffer block = map(channel, file, FileChannel.MapMode.READ_ONLY,
+                    image.blockOffsets[i], (long) enrolled * ENROLLMENT_BYTES);
+            for (int e = 0; e < enrolled; e++) {
+                int key = block.getInt(e * Integer.BYTES);
+                int examFlags = block.get(enrolled * Integer.BYTES + e);
+                double grade = block.getDouble(enrolled * (Integer.BYTES + 1) + e * Double.BYTES);
+                int position = course.getStudentCount();
+                if (course.addStudent(key < 0 ? null : students[Arrays.binarySearch(keys, key)], grade)) {
+                    column.setAttendanceComplete(position, (examFlags & 1) != 0);
+                    column.setDisciplinePenalty(position, (examFlags & 2) != 0);
+                }
+            }
+            if (enrolled > 0 && event.isEnabled()) {
+                event.commit(course, enrolled, "snapshot");
+            }
+        }
+    }
+
+    // Maps the start of the file, enough for the header of any version, and checks the magic number
+    private static MappedByteBuffer mapHeader(FileChannel channel, Path file) throws IOException {
+        MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                Math.min(channel.size(), Integer.MAX_VALUE));
+        if (in.remaining() < 6 || in.getInt() != MAGIC) {
+            throw new IOException("Not a grading system snapshot: " + file);
+        }
+        short version = in.getShort(in.position());
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ": " + file);
+        }
+        return in;
+    }
+
+    private static String[] getCodes(ByteBuffer in, CourseCodeDictionary codes) {
+        String[] codeById = new String[in.getInt()];
+        for (int id = 0; id < codeById.length; id++) {
+            codeById[id] = getString(in);
+            codes.intern(codeById[id]);
+        }
+        return codeById;
+    }
+
+    // Reads the course headers and walks the slab lengths to find where each part starts
+    private static Image locate(FileChannel channel, Path file, ByteBuffer in, String[] codeById) throws IOException {
+        int courseCount = in.getInt();
+        Image image = new Image(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            image.courseCodes[i] = codeById[in.getInt()];
+            image.courseNames[i] = getString(in);
+            image.enrolled[i] = in.getInt();
+        }
+        image.studentCount = in.getInt();
+        long position = in.position();
+        for (int length = readInt(channel, file, position); length != -1; length = readInt(channel, file, position)) {
+            if (length <= 0) {
+                throw new IOException("Truncated or corrupt snapshot: " + file);
+            }
+            image.slabOffsets.add(position + Integer.BYTES);
+            image.slabLengths.add(length);
+            position += Integer.BYTES + length;
+        }
+        position += Integer.BYTES;
+        int indexCapacity = readInt(channel, file, position);
+        if (indexCapacity <= 0 || Integer.bitCount(indexCapacity) != 1) {
+            throw new IOException("Truncated or corrupt snapshot: " + file);
+        }
+        image.indexOffset = position + Integer.BYTES;
+        image.indexCapacity = indexCapacity;
+        image.keysOffset = image.indexOffset + (long) indexCapacity * Long.BYTES;
+        position = image.keysOffset + (long) image.studentCount * Integer.BYTES;
+        for (int i = 0; i < courseCount; i++) {
+            image.blockOffsets[i] = position;
+            position += (long) image.enrolled[i] * ENROLLMENT_BYTES;
+        }
+        if (image.studentCount < 0 || position != channel.size()) {
+            throw new IOException("Truncated or corrupt snapshot: " + file);
+        }
+        return image;
+    }
+
+    private static int readInt(FileChannel channel, Path file, long position) throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(Integer.BYTES);
+        while (value.hasRemaining()) {
+            if (channel.read(value, position + value.position()) < 0) {
+                throw new IOException("Truncated or corrupt snapshot: " + file);
+            }
+        }
+        return value.getInt(0);
+    }
+
+    // Checks the bounds first: a private mapping past the end would grow the file
+    private static MappedByteBuffer map(FileChannel channel, Path file, FileChannel.MapMode mode,
+                                        long offset, long length) throws IOException {
+        if (offset < 0 || length < 0 || length > Integer.MAX_VALUE || offset + length > channel.size()) {
+            throw new IOException("Truncated or corrupt snapshot: " + file);
+        }
+        return channel.map(mode, offset, length);
+    }
+
+    /**
+     * Record key written for each student of the system. Off-heap students are looked
+     * up by the key of their own record, other students by identity.
+     */
+    private static final class RecordKeys {
+        private final OffHeapStudentStore store;
+        private final IntIntMap byStoreKey;
+        private final Map<Student, Integer> byStudent;
+
+        RecordKeys(StudentGradingSystem system) {
+            store = system instanceof OffHeapStudentGradingSystem offHeap ? offHeap.store() : null;
+            byStoreKey = store == null ? null : new IntIntMap(system.getStudentCount());
+            byStudent = store == null ? new IdentityHashMap<>() : null;
+        }
+
+        void put(Student student, int key) {
+            if (store != null) {
+                byStoreKey.put(store.keyOf(student), key);
+            } else {
+                byStudent.put(student, key);
+            }
+        }
+
+        // Key of an enrolled student, or -1 for a null entry or a student the system does not hold
+        int get(Student student) {
+            if (student == null) {
+                return -1;
+            }
+            if (store != null) {
+                int storeKey = store.keyOf(student);
+                return storeKey < 0 ? -1 : byStoreKey.get(storeKey);
+            }
+            Integer key = byStudent.get(student);
+            return key == null ? -1 : key;
+        }
+    }
+
+    // Where the parts of a version 3 file start
+    private static final class Image {
+        final String[] courseCodes;
+        final String[] courseNames;
+        final int[] enrolled;
+        final long[] blockOffsets;
+        final List<Long> slabOffsets = new ArrayList<>();
+        final List<Integer> slabLengths = new ArrayList<>();
+        int studentCount;
+        long indexOffset;
+        int indexCapacity;
+        long keysOffset;
+
+        Image(int courseCount) {
+            courseCodes = new String[courseCount];
+            courseNames = new String[courseCount];
+            enrolled = new int[courseCount];
+            blockOffsets = new long[courseCount];
+        }
+
+        long indexBytes() {
+            return (long) indexCapacity * Long.BYTES;
+        }
+
+        ByteBuffer[] mapSlabs(FileChannel channel, FileChannel.MapMode mode) throws IOException {
+            ByteBuffer[] slabs = new ByteBuffer[slabOffsets.size()];
+            for (int i = 0; i < slabs.length; i++) {
+                slabs[i] = channel.map(mode, slabOffsets.get(i), slabLengths.get(i));
+            }
+            return slabs;
+        }
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Buffered big-endian writer over a FileChannel
+    private static final class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES).putInt(value);
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1).put(value);
+        }
+
+        void putShort(short value) throws IOException {
+            ensure(Short.BYTES).putShort(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(Double.BYTES).putDouble(value);
+        }
+
+        void putSlab(ByteBuffer slab) throws IOException {
+            putInt(slab.remaining());
+            putBuffer(slab);
+        }
+
+        // Large buffers bypass the copy into the write buffer
+        void putBuffer(ByteBuffer bytes) throws IOException {
+            flush();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                int chunk = Math.min(bytes.length - offset, ensure(1).remaining());
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        private ByteBuffer ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+            return buffer;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.gradingsystem;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point-in-time view of every course of a {@link StudentGradingSystem}, taken by
+ * {@link StudentGradingSystem#readSnapshot()}. Reports can iterate it for as long
+ * as they need while grading continues; it never changes and needs no locking.
+ */
+public final class GradebookView {
+    private final Map<String, CourseView> courses;
+
+    GradebookView(Map<String, CourseView> courses) {
+        this.courses = Collections.unmodifiableMap(courses);
+    }
+
+    /**
+     * Courses by code; unmodifiable.
+     */
+    public Map<String, CourseView> getCourses() {
+        return courses;
+    }
+
+    /**
+     * The course with this code, or null if it did not exist when the view was taken.
+     */
+    public CourseView getCourse(String courseCode) {
+        return courses.get(courseCode);
+    }
+}
@@ -0,0 +1,413 @@
+package org.example.gradingsystem;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * JSON front end for a {@link StudentGradingSystem} on the JDK's built-in
+ * {@link HttpServer}. Parameters come from the query string or a form-encoded body.
+ * <pre>
+ * POST /students                             id, name, surname
+ * GET  /students/{id}                        GPA and average score
+ * GET  /courses                              all courses
+ * POST /courses                              code, name
+ * GET  /courses/{code}                       one course with its average
+ * POST /courses/{code}/enrollments           studentId
+ * PUT  /courses/{code}/grades/{studentId}    score
+ * GET  /courses/{code}/average
+ * GET  /courses/{code}/performance           [studentId]
+ * GET  /courses/{code}/eligibility           [studentId, attendanceComplete, hasDisciplinePenalty]
+ * </pre>
+ * Rejected calls answer 400, unknown students and courses 404, other methods on a
+ * known path 405 and unexpected failures 500, each with an {@code error} message.
+ * Each request runs on its own virtual thread when the runtime has them (Java 21+)
+ * and on a cached thread pool otherwise. Serve a
+ * {@link ConcurrentStudentGradingSystem} unless requests are known not to overlap.
+ *
+ * The built-in server writes headers and body separately; with Nagle's algorithm the
+ * body then waits for the client's delayed ACK (~40 ms). Start the JVM with
+ * {@code -Dsun.net.httpserver.nodelay=true}, as {@code org.example.Main} does; the
+ * property is JVM-wide and read once, when the first server starts.
+ */
+public final class GradingHttpServer implements Closeable {
+    private final StudentGradingSystem system;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    private GradingHttpServer(StudentGradingSystem system, HttpServer server,
+                              ExecutorService executor, boolean virtualThreads) {
+        this.system = system;
+        this.server = server;
+        this.executor = executor;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Binds to {@code address} (port 0 picks a free port) and starts serving {@code system}.
+     */
+    public static GradingHttpServer start(StudentGradingSystem system, InetSocketAddress address) throws IOException {
+        ExecutorService executor = newVirtualThreadExecutor();
+        boolean virtualThreads = executor != null;
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "grading-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        HttpServer server = HttpServer.create(address, 0);
+        GradingHttpServer api = new GradingHttpServer(system, server, executor, virtualThreads);
+        server.createContext("/", api::handle);
+        server.setExecutor(executor);
+        server.start();
+        return api;
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor exists from Java 21; the build targets 17
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            respond(exchange);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        Response response;
+        try {
+            String[] path = segments(exchange.getRequestURI().getRawPath());
+            Map<String, String> params = parameters(exchange);
+            response = route(exchange.getRequestMethod(), path, params);
+        } catch (NotFoundException e) {
+            response = new Response(404, error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            response = new Response(400, error(e.getMessage() == null ? "Bad request." : e.getMessage()));
+        } catch (RuntimeException e) {
+            response = new Response(500, error("Internal server error."));
+        }
+        byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class Response {
+        final int status;
+        final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    // A student or course named in the request does not exist
+    private static final class NotFoundException extends RuntimeException {
+        NotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    private static final Response NOT_FOUND = new Response(404, error("Not found."));
+    private static final Response METHOD_NOT_ALLOWED = new Response(405, error("Method not allowed."));
+
+    private Response route(String method, String[] path, Map<String, String> params) {
+        if (path.length == 0) {
+            return NOT_FOUND;
+        }
+        if (path[0].equals("students")) {
+            if (path.length == 1) {
+                return on(method, "POST", () -> addStudent(params));
+            }
+            if (path.length == 2) {
+                return on(method, "GET", () -> student(path[1]));
+            }
+            return NOT_FOUND;
+        }
+        if (!path[0].equals("courses")) {
+            return NOT_FOUND;
+        }
+        if (path.length == 1) {
+            return method.equals("POST")
+                    ? on(method, "POST", () -> addCourse(params))
+                    : on(method, "GET", this::courses);
+        }
+        String code = path[1];
+        if (path.length == 2) {
+            return on(method, "GET", () -> course(code));
+        }
+        String resource = path[2];
+        if (path.length == 4 && resource.equals("grades")) {
+            return on(method, "PUT", () -> assignGrade(code, path[3], params));
+        }
+        if (path.length != 3) {
+            return NOT_FOUND;
+        }
+        return switch (resource) {
+            case "enrollments" -> on(method, "POST", () -> enroll(code, params));
+            case "average" -> on(method, "GET", () -> average(code));
+            case "performance" -> on(method, "GET", () -> performance(code, params));
+            case "eligibility" -> on(method, "GET", () -> eligibility(code, params));
+            default -> NOT_FOUND;
+        };
+    }
+
+    // Runs the handler only for the allowed method; POST answers 201 Created
+    private static Response on(String method, String allowed, Supplier<String> handler) {
+        if (!method.equals(allowed)) {
+            return METHOD_NOT_ALLOWED;
+        }
+        return new Response(method.equals("POST") ? 201 : 200, handler.get());
+    }
+
+    private String addStudent(Map<String, String> params) {
+        String id = required(params, "id");
+        system.addStudent(id, required(params, "name"), required(params, "surname"));
+        return student(id);
+    }
+
+    private String student(String id) {
+        Student student = requireStudent(id);
+        return new JsonWriter().beginObject()
+                .field("id", student.getId())
+                .field("name", student.getName())
+                .field("surname", student.getSurname())
+                .field("gpa", system.getStudentGpa(id))
+                .field("average", system.getStudentAverage(id))
+                .endObject().toString();
+    }
+
+    private String addCourse(Map<String, String> params) {
+        String code = required(params, "code");
+        system.addCourse(code, required(params, "name"));
+        return course(code);
+    }
+
+    // Per-course reads only: a readSnapshot() would write-lock every stripe and make
+    // the next write to every course copy a segment
+    private String courses() {
+        JsonWriter json = new JsonWriter().beginArray();
+        for (Course course : system.getCourses().values()) {
+            writeCourse(json, course);
+        }
+        return json.endArray().toString();
+    }
+
+    private String course(String code) {
+        return writeCourse(new JsonWriter(), requireCourse(code)).toString();
+    }
+
+    private JsonWriter writeCourse(JsonWriter json, Course course) {
+        return json.beginObject()
+                .field("code", course.getCourseCode())
+                .field("name", course.getCourseName())
+                .field("studentCount", course.getStudentCount())
+                .field("average", system.calculateCourseAverage(course.getCourseCode()))
+                .endObject();
+    }
+
+    private Course requireCourse(String code) {
+        Course course = system.getCourse(code);
+        if (course == null) {
+            throw new NotFoundException("Course not found.");
+        }
+        return course;
+    }
+
+    private Student requireStudent(String id) {
+        Student student = system.getStudentById(id);
+        if (student == null) {
+            throw new NotFoundException("Student not found.");
+        }
+        return student;
+    }
+
+    private String enroll(String code, Map<String, String> params) {
+        String studentId = required(params, "studentId");
+        requireCourse(code);
+        requireStudent(studentId);
+        system.enrollStudentToCourse(studentId, code);
+        return new JsonWriter().beginObject()
+                .field("studentId", studentId)
+                .field("courseCode", code)
+                .endObject().toString();
+    }
+
+    private String assignGrade(String code, String studentId, Map<String, String> params) {
+        double score = number(required(params, "score"));
+        requireCourse(code);
+        requireStudent(studentId);
+        system.assignGrade(studentId, code, score);
+        return new JsonWriter().beginObject()
+                .field("studentId", studentId)
+                .field("courseCode", code)
+                .field("score", score)
+                .field("letterGrade", StudentGradingSystem.convertScoreToLetterGrade(score))
+                .endObject().toString();
+    }
+
+    private String average(String code) {
+        requireCourse(code);
+        return new JsonWriter().beginObject()
+                .field("courseCode", code)
+                .field("average", system.calculateCourseAverage(code))
+                .endObject().toString();
+    }
+
+    private String performance(String code, Map<String, String> params) {
+        requireCourse(code);
+        String studentId = params.get("studentId");
+        if (studentId != null) {
+            requireStudent(studentId);
+            String performance = system.evaluateStudentPerformance(studentId, code);
+            if (performance.equals("Invalid")) {
+                throw new NotFoundException("Student or Course not found.");
+            }
+            return new JsonWriter().beginObject()
+                    .field("studentId", studentId)
+                    .field("courseCode", code)
+                    .field("performance", performance)
+                    .endObject().toString();
+        }
+        JsonWriter json = new JsonWriter().beginObject().field("courseCode", code).name("counts").beginObject();
+        for (Map.Entry<PerformanceLevel, Integer> count : system.getCoursePerformanceCounts(code).entrySet()) {
+            json.field(count.getKey().getLabel(), count.getValue());
+        }
+        return json.endObject().endObject().toString();
+    }
+
+    private String eligibility(String code, Map<String, String> params) {
+        requireCourse(code);
+        String studentId = params.get("studentId");
+        if (studentId != null) {
+            requireStudent(studentId);
+            String eligibility = system.determineExamEligibility(studentId, code,
+                    bool(params.get("attendanceComplete")), bool(params.get("hasDisciplinePenalty")));
+            return new JsonWriter().beginObject()
+                    .field("studentId", studentId)
+                    .field("courseCode", code)
+                    .field("eligibility", eligibility)
+                    .endObject().toString();
+        }
+        EligibilityPartition partition = system.getCourseEligibility(code);
+        return new JsonWriter().beginObject()
+                .field("courseCode", code)
+                .stringArray("eligible", ids(partition.getEligible()))
+                .stringArray("conditional", ids(partition.getConditional()))
+                .stringArray("notEligible", ids(partition.getNotEligible()))
+                .endObject().toString();
+    }
+
+    private static List<String> ids(List<Student> students) {
+        List<String> ids = new ArrayList<>(students.size());
+        for (Student student : students) {
+            ids.add(student.getId());
+        }
+        return ids;
+    }
+
+    private static String error(String message) {
+        return new JsonWriter().beginObject().field("error", message).endObject().toString();
+    }
+
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name + ".");
+        }
+        return value;
+    }
+
+    private static double number(String value) {
+        double number;
+        try {
+            number = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value + ".");
+        }
+        // parseDouble also accepts "NaN" and "Infinity"
+        if (!Double.isFinite(number)) {
+            throw new IllegalArgumentException("Not a number: " + value + ".");
+        }
+        return number;
+    }
+
+    private static boolean bool(String value) {
+        return Boolean.parseBoolean(value);
+    }
+
+    private static String[] segments(String rawPath) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : rawPath.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    // Query string first, then a form-encoded body; body values win
+    private static Map<String, String> parameters(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        parseForm(exchange.getRequestURI().getRawQuery(), params);
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readAllBytes();
+            if (body.length > 0) {
+                parseForm(new String(body, StandardCharsets.UTF_8), params);
+            }
+        }
+        return params;
+    }
+
+    private static void parseForm(String form, Map<String, String> params) {
+        if (form == null || form.isEmpty()) {
+            return;
+        }
+        for (String pair : form.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.gradingsystem;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link GradingMetrics}, registered with {@link GradingMetrics#registerMBean(String)}.
+ */
+public interface GradingMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    List<OperationStats> getOperations();
+
+    void reset();
+}
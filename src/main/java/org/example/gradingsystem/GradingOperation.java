@@ -0,0 +1,12 @@
+package org.example.gradingsystem;
+
+/**
+ * Calls of {@link StudentGradingSystem} whose latency is recorded by {@link GradingMetrics}.
+ */
+public enum GradingOperation {
+    ASSIGN_GRADE,
+    ENROLL_STUDENT,
+    CALCULATE_COURSE_AVERAGE,
+    EVALUATE_STUDENT_PERFORMANCE,
+    DETERMINE_EXAM_ELIGIBILITY
+}
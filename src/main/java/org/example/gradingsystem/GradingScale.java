@@ -0,0 +1,21 @@
+package org.example.gradingsystem;
+
+/**
+ * Grade points awarded for each letter of {@link StudentGradingSystem#convertScoreToLetterGrade},
+ * used to compute GPAs. Install another scale with
+ * {@link StudentGradingSystem#setGradingScale(GradingScale)}.
+ */
+public final class GradingScale {
+    public static final GradingScale FOUR_POINT = new GradingScale(4.0, 3.0, 2.0, 1.0, 0.0);
+
+    // Indexed A, B, C, D, F
+    private final double[] points;
+
+    public GradingScale(double a, double b, double c, double d, double f) {
+        this.points = new double[]{a, b, c, d, f};
+    }
+
+    public double pointsFor(double score) {
+        return points[GradeColumn.letterIndex(score)];
+    }
+}
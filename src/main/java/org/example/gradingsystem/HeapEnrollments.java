@@ -0,0 +1,57 @@
+package org.example.gradingsystem;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enrollments holding the {@link Student} objects themselves, with positions by
+ * student ID. A null student may be enrolled once.
+ */
+final class HeapEnrollments implements Enrollments {
+    // Enrollment order is kept in the list, membership is answered by the ID index in O(1)
+    private final EnrollmentList students = new EnrollmentList();
+    private final List<Student> studentsView = Collections.unmodifiableList(students);
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    @Override
+    public int size() {
+        return students.size();
+    }
+
+    @Override
+    public Student get(int position) {
+        return students.get(position);
+    }
+
+    @Override
+    public int positionOf(Student student) {
+        return positionOf(student == null ? null : student.getId());
+    }
+
+    @Override
+    public int positionOf(String studentId) {
+        Integer position = positions.get(studentId);
+        return position == null ? -1 : position;
+    }
+
+    @Override
+    public boolean append(Student student) {
+        if (positions.putIfAbsent(student == null ? null : student.getId(), students.size()) != null) {
+            return false;
+        }
+        students.add(student);
+        return true;
+    }
+
+    @Override
+    public List<Student> students() {
+        return studentsView;
+    }
+
+    @Override
+    public List<Student> snapshot() {
+        return students.snapshot();
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.gradingsystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one CSV import: how many data rows were read and applied, and the
+ * rows that were rejected. Only the first {@link #MAX_REPORTED_ERRORS} rejected
+ * rows are kept in detail; {@link #getErrorCount()} always counts all of them.
+ */
+public class ImportReport {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long rowsRead;
+    private long rowsImported;
+    private long errorCount;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void rowImported() {
+        rowsRead++;
+        rowsImported++;
+    }
+
+    void rowRejected(long lineNumber, String message) {
+        rowsRead++;
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(lineNumber, message));
+        }
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsImported() {
+        return rowsImported;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport[read=" + rowsRead + ", imported=" + rowsImported + ", errors=" + errorCount + "]";
+    }
+
+    /**
+     * A rejected CSV row; line numbers are 1-based and count the header line.
+     */
+    public static class RowError {
+        private final long lineNumber;
+        private final String message;
+
+        RowError(long lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "line " + lineNumber + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.gradingsystem;
+
+/**
+ * Open-addressing map from a non-negative int key to an int value in two parallel
+ * int arrays, with no boxed keys, values or entry nodes. Uses linear probing.
+ */
+final class IntIntMap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Slots hold key + 1 so that 0 marks an empty slot
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size;
+
+    IntIntMap() {
+    }
+
+    IntIntMap(int expectedSize) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Value of key, or -1 if absent
+    int get(int key) {
+        int slot = findSlot(keys, key + 1);
+        return keys[slot] == 0 ? -1 : values[slot];
+    }
+
+    // Stores value unless key is present; returns the present value, or -1 if it was stored
+    int putIfAbsent(int key, int value) {
+        int slot = findSlot(keys, key + 1);
+        if (keys[slot] != 0) {
+            return values[slot];
+        }
+        keys[slot] = key + 1;
+        values[slot] = value;
+        size++;
+        if (size * 4L > keys.length * 3L) {
+            resize(keys.length * 2);
+        }
+        return -1;
+    }
+
+    void put(int key, int value) {
+        int slot = findSlot(keys, key + 1);
+        if (keys[slot] == 0) {
+            keys[slot] = key + 1;
+            size++;
+        }
+        values[slot] = value;
+        if (size * 4L > keys.length * 3L) {
+            resize(keys.length * 2);
+        }
+    }
+
+    private static int findSlot(int[] table, int storedKey) {
+        int mask = table.length - 1;
+        int hash = storedKey * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (table[slot] != 0 && table[slot] != storedKey) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = findSlot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+}
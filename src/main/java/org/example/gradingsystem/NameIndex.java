@@ -0,0 +1,163 @@
+package org.example.gradingsystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Secondary index from a lower-cased student name (or surname) to student IDs,
+ * answering exact and prefix queries in (key, ID) order with paging.
+ *
+ * Entries are kept in sorted runs: new entries go into a small sorted buffer, a
+ * full buffer becomes a run, and runs of similar size are merged, so each entry
+ * is copied O(log n) times in total. A query binary-searches every run (at most
+ * a few dozen) and merges the matching ranges. All methods are synchronized.
+ */
+final class NameIndex {
+    private static final int BUFFER_CAPACITY = 1024;
+
+    // Runs from largest to smallest; the buffer is searched as one more run
+    private final List<Run> runs = new ArrayList<>();
+    private Run buffer = new Run(BUFFER_CAPACITY);
+    private int size;
+
+    static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void add(String value, String studentId) {
+        buffer.insert(normalize(value), studentId);
+        size++;
+        if (buffer.size == BUFFER_CAPACITY) {
+            runs.add(buffer);
+            buffer = new Run(BUFFER_CAPACITY);
+            while (runs.size() >= 2 && runs.get(runs.size() - 2).size <= 2 * runs.get(runs.size() - 1).size) {
+                Run smaller = runs.remove(runs.size() - 1);
+                Run larger = runs.remove(runs.size() - 1);
+                runs.add(Run.merge(larger, smaller));
+            }
+        }
+    }
+
+    /**
+     * IDs of the entries whose key equals, or starts with, the lower-cased {@code value},
+     * skipping the first {@code offset} matches.
+     */
+    synchronized List<String> find(String value, boolean exact, int offset, int limit) {
+        String key = normalize(value);
+        int count = runs.size() + 1;
+        Run[] sources = runs.toArray(new Run[count]);
+        sources[count - 1] = buffer;
+        int[] next = new int[count];
+        int[] end = new int[count];
+        for (int r = 0; r < count; r++) {
+            next[r] = sources[r].lowerBound(key);
+            end[r] = sources[r].upperBound(key, exact, next[r]);
+        }
+
+        List<String> page = new ArrayList<>(Math.min(limit, 64));
+        for (int skipped = 0; page.size() < limit; ) {
+            int best = -1;
+            for (int r = 0; r < count; r++) {
+                if (next[r] < end[r] && (best < 0 || sources[r].compare(next[r], sources[best], next[best]) < 0)) {
+                    best = r;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(sources[best].ids[next[best]]);
+            }
+            next[best]++;
+        }
+        return page;
+    }
+
+    // Parallel arrays sorted by (key, id)
+    private static final class Run {
+        String[] keys;
+        String[] ids;
+        int size;
+
+        Run(int capacity) {
+            keys = new String[capacity];
+            ids = new String[capacity];
+        }
+
+        void insert(String key, String id) {
+            int at = size;
+            while (at > 0 && compare(keys[at - 1], ids[at - 1], key, id) > 0) {
+                at--;
+            }
+            System.arraycopy(keys, at, keys, at + 1, size - at);
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            keys[at] = key;
+            ids[at] = id;
+            size++;
+        }
+
+        static Run merge(Run a, Run b) {
+            Run merged = new Run(a.size + b.size);
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < merged.keys.length; k++) {
+                if (j == b.size || (i < a.size && a.compare(i, b, j) <= 0)) {
+                    merged.keys[k] = a.keys[i];
+                    merged.ids[k] = a.ids[i++];
+                } else {
+                    merged.keys[k] = b.keys[j];
+                    merged.ids[k] = b.ids[j++];
+                }
+            }
+            merged.size = merged.keys.length;
+            return merged;
+        }
+
+        int compare(int index, Run other, int otherIndex) {
+            return compare(keys[index], ids[index], other.keys[otherIndex], other.ids[otherIndex]);
+        }
+
+        static int compare(String key, String id, String otherKey, String otherId) {
+            int byKey = key.compareTo(otherKey);
+            return byKey != 0 ? byKey : id.compareTo(otherId);
+        }
+
+        // First index whose key is >= key
+        int lowerBound(String key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First index from start whose key no longer equals (or starts with) key
+        int upperBound(String key, boolean exact, int start) {
+            int low = start;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                boolean matches = exact ? keys[mid].equals(key) : keys[mid].startsWith(key);
+                if (matches) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
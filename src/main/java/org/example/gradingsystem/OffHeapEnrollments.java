@@ -0,0 +1,135 @@
+package org.example.gradingsystem;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Enrollments of an {@link OffHeapStudentGradingSystem} course, held as the int
+ * record keys of {@link OffHeapStudentStore} in segments aligned with the grade
+ * column, plus an {@link IntIntMap} from key to position. An enrollment costs a
+ * few primitive array slots and no heap object; students are handed out as
+ * flyweights created on access. Only students of the same store can be enrolled.
+ */
+final class OffHeapEnrollments implements Enrollments {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final OffHeapStudentStore store;
+    // The first segment grows up to SEGMENT_SIZE; a filled slot is never written again
+    private int[][] segments = {new int[INITIAL_CAPACITY]};
+    private int size;
+    // Built on first lookup after a bulk load
+    private IntIntMap positions = new IntIntMap();
+    private final List<Student> studentsView;
+
+    OffHeapEnrollments(OffHeapStudentStore store) {
+        this.store = store;
+        this.studentsView = new Students(this);
+    }
+
+    private OffHeapEnrollments(OffHeapEnrollments source) {
+        this.store = source.store;
+        this.segments = source.segments.clone();
+        this.size = source.size;
+        this.studentsView = new Students(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Student get(int position) {
+        Objects.checkIndex(position, size);
+        return store.studentAt(segments[position >> GradeColumn.SEGMENT_SHIFT][position & (GradeColumn.SEGMENT_SIZE - 1)]);
+    }
+
+    @Override
+    public int positionOf(Student student) {
+        int key = store.keyOf(student);
+        return key < 0 ? -1 : positions().get(key);
+    }
+
+    @Override
+    public int positionOf(String studentId) {
+        int key = store.keyOf(studentId);
+        return key < 0 ? -1 : positions().get(key);
+    }
+
+    @Override
+    public boolean append(Student student) {
+        int key = store.keyOf(student);
+        if (key < 0) {
+            throw new IllegalArgumentException("Student is not stored in this grading system.");
+        }
+        if (positions().putIfAbsent(key, size) >= 0) {
+            return false;
+        }
+        add(key);
+        return true;
+    }
+
+    /**
+     * Appends the record key of a student known not to be enrolled yet, without
+     * updating the position map, which is rebuilt by the next lookup.
+     */
+    void load(int key) {
+        positions = null;
+        add(key);
+    }
+
+    private void add(int key) {
+        int segment = size >> GradeColumn.SEGMENT_SHIFT;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segment * 2);
+        }
+        if (segments[segment] == null) {
+            segments[segment] = new int[GradeColumn.SEGMENT_SIZE];
+        } else if (segment == 0 && size == segments[0].length) {
+            segments[0] = Arrays.copyOf(segments[0], size * 2);
+        }
+        segments[segment][size & (GradeColumn.SEGMENT_SIZE - 1)] = key;
+        size++;
+    }
+
+    private IntIntMap positions() {
+        if (positions == null) {
+            positions = new IntIntMap(size);
+            for (int position = 0; position < size; position++) {
+                positions.put(segments[position >> GradeColumn.SEGMENT_SHIFT][position & (GradeColumn.SEGMENT_SIZE - 1)], position);
+            }
+        }
+        return positions;
+    }
+
+    @Override
+    public List<Student> students() {
+        return studentsView;
+    }
+
+    @Override
+    public List<Student> snapshot() {
+        return new OffHeapEnrollments(this).studentsView;
+    }
+
+    private static final class Students extends AbstractList<Student> implements RandomAccess {
+        private final OffHeapEnrollments enrollments;
+
+        Students(OffHeapEnrollments enrollments) {
+            this.enrollments = enrollments;
+        }
+
+        @Override
+        public int size() {
+            return enrollments.size;
+        }
+
+        @Override
+        public Student get(int index) {
+            return enrollments.get(index);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.gradingsystem;
+
+import java.util.HashMap;
+
+/**
+ * {@link StudentGradingSystem} for very large populations: students and their grades
+ * are stored outside the Java heap, so adding students does not grow the heap
+ * or lengthen garbage collection.
+ *
+ * {@link #getStudentById(String)} and the students of {@link Course#getEnrolledStudents()}
+ * are lightweight views onto the off-heap records; calling {@code getStudentById}
+ * twice returns two equal views rather than the same object, created on access.
+ * Courses stay on the heap, but an enrollment holds only an int key of the student's
+ * record in primitive arrays, about 25 bytes of heap including its grade slot and
+ * no object of its own. Name and surname searches scan all students instead of
+ * using an index. Only students of this system can be enrolled in its courses.
+ * Not thread-safe.
+ */
+public class OffHeapStudentGradingSystem extends StudentGradingSystem {
+
+    public OffHeapStudentGradingSystem() {
+        this(new CourseCodeDictionary());
+    }
+
+    private OffHeapStudentGradingSystem(CourseCodeDictionary courseCodes) {
+        this(new OffHeapStudentStore(courseCodes), courseCodes);
+    }
+
+    private final OffHeapStudentStore store;
+
+    // Also used by GradebookSnapshot.open over a store mapped from a snapshot
+    OffHeapStudentGradingSystem(OffHeapStudentStore store, CourseCodeDictionary courseCodes) {
+        // A name index would keep heap objects per student, so name searches scan instead
+        super(store, new HashMap<>(), courseCodes, false);
+        this.store = store;
+        store.owner = this;
+    }
+
+    OffHeapStudentStore store() {
+        return store;
+    }
+
+    @Override
+    Course newCourse(String code, String name, int courseId) {
+        return new Course(code, name, courseId, new OffHeapEnrollments(store));
+    }
+}
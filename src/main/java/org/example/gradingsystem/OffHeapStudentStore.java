@@ -0,0 +1,581 @@
+package org.example.gradingsystem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Student map of {@link OffHeapStudentGradingSystem}: student records, their grades
+ * and the ID index live in direct {@link ByteBuffer}s, so the heap holds no object
+ * per stored student. {@link #get} returns a {@link Student} flyweight that reads and
+ * writes the record in place.
+ *
+ * Memory is addressed by a long offset into 16 MB slabs; offset 0 means null.
+ * <pre>
+ * record: long firstChunk, int gradeCount, int idHash, 3 x (int length, UTF-8 bytes)  id, name, surname
+ * chunk:  long nextChunk, 4 x (int courseId, double score)
+ * index:  open addressing over long record offsets, linear probing
+ * </pre>
+ * Grades are appended to a record's chunk chain in assignment order. Nothing is
+ * ever freed, since students cannot be removed. Records are 8-byte aligned, so
+ * {@link #keyOf} names each one by an int, which {@link OffHeapEnrollments} stores
+ * instead of a Student. Not thread-safe.
+ */
+final class OffHeapStudentStore extends AbstractMap<String, Student> {
+    private static final int SLAB_SHIFT = 24;
+    private static final int SLAB_SIZE = 1 << SLAB_SHIFT;
+    private static final int SLAB_MASK = SLAB_SIZE - 1;
+
+    private static final int FIRST_CHUNK = 0;
+    private static final int GRADE_COUNT = 8;
+    private static final int ID_HASH = 12;
+    private static final int STRINGS = 16;
+
+    private static final int GRADES_PER_CHUNK = 4;
+    private static final int GRADE_BYTES = Integer.BYTES + Double.BYTES;
+    private static final int CHUNK_BYTES = Long.BYTES + GRADES_PER_CHUNK * GRADE_BYTES;
+
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final int MAX_INDEX_CAPACITY = 1 << 27;
+    // Record keys are offsets divided by 8 and must fit in a non-negative int
+    private static final int KEY_SHIFT = 3;
+    private static final long MAX_TOP = (long) Integer.MAX_VALUE << KEY_SHIFT;
+
+    private final CourseCodeDictionary courseCodes;
+    // Set once by the owning system; public grade changes of the flyweights go through it
+    StudentGradingSystem owner;
+    private ByteBuffer[] slabs = new ByteBuffer[0];
+    private long top = Long.BYTES;
+    private ByteBuffer index = ByteBuffer.allocateDirect(INITIAL_INDEX_CAPACITY * Long.BYTES);
+    private int indexMask = INITIAL_INDEX_CAPACITY - 1;
+    private int size;
+
+    OffHeapStudentStore(CourseCodeDictionary courseCodes) {
+        this.courseCodes = courseCodes;
+    }
+
+    /**
+     * Store over slabs and an index laid out by an {@link ImageWriter}, e.g. mapped from a
+     * snapshot; nothing is copied. New records go to fresh slabs after the given ones.
+     */
+    OffHeapStudentStore(CourseCodeDictionary courseCodes, ByteBuffer[] slabs, ByteBuffer index, int size) {
+        this.courseCodes = courseCodes;
+        this.slabs = slabs;
+        this.top = Math.max(Long.BYTES, (long) slabs.length << SLAB_SHIFT);
+        this.index = index;
+        this.indexMask = index.capacity() / Long.BYTES - 1;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String id && find(id) != 0;
+    }
+
+    @Override
+    public Student get(Object key) {
+        if (!(key instanceof String id)) {
+            return null;
+        }
+        long record = find(id);
+        return record == 0 ? null : new Flyweight(this, record);
+    }
+
+    /**
+     * Copies a new student, including any grades it already has, into off-heap memory.
+     */
+    @Override
+    public Student put(String id, Student student) {
+        if (find(id) != 0) {
+            throw new IllegalArgumentException("Student with this ID already exists.");
+        }
+        if ((size + 1) * 4L > (indexMask + 1) * 3L) {
+            resizeIndex();
+        }
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] nameBytes = student.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] surnameBytes = student.getSurname().getBytes(StandardCharsets.UTF_8);
+        long record = allocate(STRINGS + 3 * Integer.BYTES + idBytes.length + nameBytes.length + surnameBytes.length);
+        ByteBuffer slab = slab(record);
+        int at = position(record);
+        slab.putInt(at + ID_HASH, id.hashCode());
+        at += STRINGS;
+        for (byte[] value : new byte[][]{idBytes, nameBytes, surnameBytes}) {
+            slab.putInt(at, value.length);
+            slab.put(at + Integer.BYTES, value);
+            at += Integer.BYTES + value.length;
+        }
+        index.putLong(emptySlot(id.hashCode()) * Long.BYTES, record);
+        size++;
+        for (Map.Entry<String, Double> grade : student.getCourseGrades().entrySet()) {
+            putGrade(record, courseCodes.intern(grade.getKey()), grade.getValue());
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Entry<String, Student>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Entry<String, Student>> iterator() {
+                return new Iterator<>() {
+                    private int slot = nextOccupied(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return slot <= indexMask;
+                    }
+
+                    @Override
+                    public Entry<String, Student> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Flyweight student = new Flyweight(OffHeapStudentStore.this, index.getLong(slot * Long.BYTES));
+                        slot = nextOccupied(slot + 1);
+                        return new SimpleImmutableEntry<>(student.getId(), student);
+                    }
+                };
+            }
+        };
+    }
+
+    private int nextOccupied(int slot) {
+        while (slot <= indexMask && index.getLong(slot * Long.BYTES) == 0) {
+            slot++;
+        }
+        return slot;
+    }
+
+    /**
+     * Int key of a student's record, or -1 if no record has the student's ID.
+     */
+    int keyOf(Student student) {
+        if (student instanceof Flyweight flyweight && flyweight.store == this) {
+            return (int) (flyweight.record >>> KEY_SHIFT);
+        }
+        long record = student == null ? 0 : find(student.getId());
+        return record == 0 ? -1 : (int) (record >>> KEY_SHIFT);
+    }
+
+    int keyOf(String id) {
+        long record = id == null ? 0 : find(id);
+        return record == 0 ? -1 : (int) (record >>> KEY_SHIFT);
+    }
+
+    Student studentAt(int key) {
+        return new Flyweight(this, (long) key << KEY_SHIFT);
+    }
+
+    // Index
+
+    private long find(String id) {
+        int hash = id.hashCode();
+        byte[] idBytes = null;
+        for (int slot = spread(hash) & indexMask; ; slot = (slot + 1) & indexMask) {
+            long record = index.getLong(slot * Long.BYTES);
+            if (record == 0) {
+                return 0;
+            }
+            if (slab(record).getInt(position(record) + ID_HASH) == hash) {
+                if (idBytes == null) {
+                    idBytes = id.getBytes(StandardCharsets.UTF_8);
+                }
+                if (idEquals(record, idBytes)) {
+                    return record;
+                }
+            }
+        }
+    }
+
+    private boolean idEquals(long record, byte[] idBytes) {
+        ByteBuffer slab = slab(record);
+        int at = position(record) + STRINGS;
+        if (slab.getInt(at) != idBytes.length) {
+            return false;
+        }
+        for (int i = 0; i < idBytes.length; i++) {
+            if (slab.get(at + Integer.BYTES + i) != idBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int emptySlot(int hash) {
+        int slot = spread(hash) & indexMask;
+        while (index.getLong(slot * Long.BYTES) != 0) {
+            slot = (slot + 1) & indexMask;
+        }
+        return slot;
+    }
+
+    private void resizeIndex() {
+        int capacity = (indexMask + 1) * 2;
+        if (capacity > MAX_INDEX_CAPACITY) {
+            throw new IllegalStateException("Off-heap student index is full.");
+        }
+        ByteBuffer old = index;
+        int oldCapacity = indexMask + 1;
+        index = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        indexMask = capacity - 1;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long record = old.getLong(slot * Long.BYTES);
+            if (record != 0) {
+                index.putLong(emptySlot(slab(record).getInt(position(record) + ID_HASH)) * Long.BYTES, record);
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Records
+
+    String string(long record, int field) {
+        ByteBuffer slab = slab(record);
+        int at = position(record) + STRINGS;
+        for (int i = 0; i < field; i++) {
+            at += Integer.BYTES + slab.getInt(at);
+        }
+        byte[] bytes = new byte[slab.getInt(at)];
+        slab.get(at + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    int gradeCount(long record) {
+        return slab(record).getInt(position(record) + GRADE_COUNT);
+    }
+
+    double getGrade(long record, int courseId) {
+        long chunk = slab(record).getLong(position(record) + FIRST_CHUNK);
+        int count = gradeCount(record);
+        for (int i = 0; i < count; i++) {
+            int slot = i % GRADES_PER_CHUNK;
+            if (slot == 0 && i > 0) {
+                chunk = slab(chunk).getLong(position(chunk));
+            }
+            int at = position(chunk) + Long.BYTES + slot * GRADE_BYTES;
+            if (slab(chunk).getInt(at) == courseId) {
+                return slab(chunk).getDouble(at + Integer.BYTES);
+            }
+        }
+        return GradeTable.NO_GRADE;
+    }
+
+    void putGrade(long record, int courseId, double score) {
+        ByteBuffer recordSlab = slab(record);
+        int recordAt = position(record);
+        long chunk = recordSlab.getLong(recordAt + FIRST_CHUNK);
+        int count = recordSlab.getInt(recordAt + GRADE_COUNT);
+        for (int i = 0; i < count; i++) {
+            int slot = i % GRADES_PER_CHUNK;
+            if (slot == 0 && i > 0) {
+                chunk = slab(chunk).getLong(position(chunk));
+            }
+            int at = position(chunk) + Long.BYTES + slot * GRADE_BYTES;
+            if (slab(chunk).getInt(at) == courseId) {
+                slab(chunk).putDouble(at + Integer.BYTES, score);
+                return;
+            }
+        }
+        int slot = count % GRADES_PER_CHUNK;
+        if (slot == 0) {
+            long added = allocate(CHUNK_BYTES);
+            if (count == 0) {
+                // allocate() may have added a slab, but never moves existing records
+                slab(record).putLong(recordAt + FIRST_CHUNK, added);
+            } else {
+                slab(chunk).putLong(position(chunk), added);
+            }
+            chunk = added;
+        }
+        int at = position(chunk) + Long.BYTES + slot * GRADE_BYTES;
+        slab(chunk).putInt(at, courseId).putDouble(at + Integer.BYTES, score);
+        slab(record).putInt(recordAt + GRADE_COUNT, count + 1);
+    }
+
+    void forEachGrade(long record, GradeTable.GradeConsumer consumer) {
+        long chunk = slab(record).getLong(position(record) + FIRST_CHUNK);
+        int count = gradeCount(record);
+        for (int i = 0; i < count; i++) {
+            int slot = i % GRADES_PER_CHUNK;
+            if (slot == 0 && i > 0) {
+                chunk = slab(chunk).getLong(position(chunk));
+            }
+            int at = position(chunk) + Long.BYTES + slot * GRADE_BYTES;
+            consumer.accept(slab(chunk).getInt(at), slab(chunk).getDouble(at + Integer.BYTES));
+        }
+    }
+
+    // Slab memory
+
+    private long allocate(int bytes) {
+        if (bytes > SLAB_SIZE) {
+            throw new IllegalArgumentException("Student record too large.");
+        }
+        int aligned = (bytes + 7) & ~7;
+        if ((top & SLAB_MASK) + aligned > SLAB_SIZE) {
+            top = (top + SLAB_MASK) & ~(long) SLAB_MASK;
+        }
+        if (top + aligned > MAX_TOP) {
+            throw new IllegalStateException("Off-heap student store is full.");
+        }
+        int slab = (int) (top >>> SLAB_SHIFT);
+        if (slab == slabs.length) {
+            slabs = Arrays.copyOf(slabs, slab + 1);
+            slabs[slab] = ByteBuffer.allocateDirect(SLAB_SIZE);
+        }
+        long address = top;
+        top += aligned;
+        return address;
+    }
+
+    private ByteBuffer slab(long address) {
+        return slabs[(int) (address >>> SLAB_SHIFT)];
+    }
+
+    private static int position(long address) {
+        return (int) (address & SLAB_MASK);
+    }
+
+    // Receives each slab of an image once it is full, positioned over its used bytes
+    interface SlabSink {
+        void write(ByteBuffer slab) throws IOException;
+    }
+
+    /**
+     * Lays out records exactly as {@link #put} and {@link #putGrade} would, a record
+     * directly followed by its grade chunks, and hands each slab to a {@link SlabSink}
+     * once the next record no longer fits. Only one slab is held in memory. Together
+     * with {@link #index()} the slabs form a store image that
+     * {@link #OffHeapStudentStore(CourseCodeDictionary, ByteBuffer[], ByteBuffer, int)} can use as-is.
+     */
+    static final class ImageWriter {
+        private final SlabSink sink;
+        private final ByteBuffer slab = ByteBuffer.allocateDirect(SLAB_SIZE);
+        private final ByteBuffer index;
+        private final int indexMask;
+        private long top = Long.BYTES;
+        // Slab held in the buffer and the end of the bytes written to it
+        private int current;
+        private int used;
+
+        ImageWriter(int studentCount, SlabSink sink) {
+            this.sink = sink;
+            int capacity = INITIAL_INDEX_CAPACITY;
+            while (studentCount * 4L > capacity * 3L) {
+                capacity *= 2;
+            }
+            if (capacity > MAX_INDEX_CAPACITY) {
+                throw new IllegalStateException("Off-heap student index is full.");
+            }
+            index = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+            indexMask = capacity - 1;
+        }
+
+        /**
+         * Writes one student with all of its grades and returns the record key.
+         * Students must have distinct IDs.
+         */
+        int add(Student student) throws IOException {
+            String id = student.getId();
+            byte[][] strings = {
+                    id.getBytes(StandardCharsets.UTF_8),
+                    student.getName().getBytes(StandardCharsets.UTF_8),
+                    student.getSurname().getBytes(StandardCharsets.UTF_8)};
+            int gradeCount = student.getGradeCount();
+            long record = allocate(STRINGS + 3 * Integer.BYTES
+                    + strings[0].length + strings[1].length + strings[2].length);
+            long[] chunks = new long[(gradeCount + GRADES_PER_CHUNK - 1) / GRADES_PER_CHUNK];
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = allocate(CHUNK_BYTES);
+            }
+
+            int at = seek(record);
+            slab.putLong(at + FIRST_CHUNK, chunks.length == 0 ? 0 : chunks[0]);
+            slab.putInt(at + GRADE_COUNT, gradeCount);
+            slab.putInt(at + ID_HASH, id.hashCode());
+            at += STRINGS;
+            for (byte[] value : strings) {
+                slab.putInt(at, value.length);
+                slab.put(at + Integer.BYTES, value);
+                at += Integer.BYTES + value.length;
+            }
+            used = (at + 7) & ~7;
+
+            int[] courseIds = new int[gradeCount];
+            double[] scores = new double[gradeCount];
+            int[] count = {0};
+            student.forEachGrade((courseId, score) -> {
+                courseIds[count[0]] = courseId;
+                scores[count[0]++] = score;
+            });
+            for (int i = 0; i < gradeCount; i++) {
+                int slot = i % GRADES_PER_CHUNK;
+                int chunkAt = seek(chunks[i / GRADES_PER_CHUNK]);
+                if (slot == 0) {
+                    int next = i / GRADES_PER_CHUNK + 1;
+                    slab.putLong(chunkAt, next < chunks.length ? chunks[next] : 0);
+                    used = chunkAt + CHUNK_BYTES;
+                }
+                int entry = chunkAt + Long.BYTES + slot * GRADE_BYTES;
+                slab.putInt(entry, courseIds[i]).putDouble(entry + Integer.BYTES, scores[i]);
+            }
+
+            int slot = spread(id.hashCode()) & indexMask;
+            while (index.getLong(slot * Long.BYTES) != 0) {
+                slot = (slot + 1) & indexMask;
+            }
+            index.putLong(slot * Long.BYTES, record);
+            return (int) (record >>> KEY_SHIFT);
+        }
+
+        // Hands over the last slab; call once after the last student
+        void finish() throws IOException {
+            if (used > 0) {
+                flush();
+            }
+        }
+
+        ByteBuffer index() {
+            return index.duplicate().clear();
+        }
+
+        private long allocate(int bytes) {
+            if (bytes > SLAB_SIZE) {
+                throw new IllegalArgumentException("Student record too large.");
+            }
+            int aligned = (bytes + 7) & ~7;
+            if ((top & SLAB_MASK) + aligned > SLAB_SIZE) {
+                top = (top + SLAB_MASK) & ~(long) SLAB_MASK;
+            }
+            if (top + aligned > MAX_TOP) {
+                throw new IllegalStateException("Off-heap student store is full.");
+            }
+            long address = top;
+            top += aligned;
+            return address;
+        }
+
+        private int seek(long address) throws IOException {
+            if ((int) (address >>> SLAB_SHIFT) != current) {
+                flush();
+                current = (int) (address >>> SLAB_SHIFT);
+            }
+            return position(address);
+        }
+
+        private void flush() throws IOException {
+            sink.write(slab.clear().limit(used));
+            slab.clear();
+            used = 0;
+        }
+    }
+
+    /**
+     * Student view onto one off-heap record; two flyweights of the same record are equal.
+     */
+    private static final class Flyweight extends Student {
+        private final OffHeapStudentStore store;
+        private final long record;
+
+        Flyweight(OffHeapStudentStore store, long record) {
+            this.store = store;
+            this.record = record;
+        }
+
+        @Override
+        public String getId() {
+            return store.string(record, 0);
+        }
+
+        @Override
+        public String getName() {
+            return store.string(record, 1);
+        }
+
+        @Override
+        public String getSurname() {
+            return store.string(record, 2);
+        }
+
+        /**
+         * Read-only copy of the grades at the time of the call.
+         */
+        @Override
+        public Map<String, Double> getCourseGrades() {
+            Map<String, Double> grades = new LinkedHashMap<>();
+            forEachGrade((courseId, score) -> grades.put(store.courseCodes.codeOf(courseId), score));
+            return Collections.unmodifiableMap(grades);
+        }
+
+        @Override
+        StudentGradingSystem owner() {
+            return store.owner;
+        }
+
+        @Override
+        CourseCodeDictionary courseCodes() {
+            return store.courseCodes;
+        }
+
+        @Override
+        void addGrade(int courseId, double score) {
+            requireValidScore(score);
+            store.putGrade(record, courseId, score);
+        }
+
+        @Override
+        double getGrade(int courseId) {
+            return courseId < 0 ? GradeTable.NO_GRADE : store.getGrade(record, courseId);
+        }
+
+        @Override
+        int getGradeCount() {
+            return store.gradeCount(record);
+        }
+
+        @Override
+        void forEachGrade(GradeTable.GradeConsumer consumer) {
+            store.forEachGrade(record, consumer);
+        }
+
+        // Flyweights are short-lived, so the summary is computed rather than cached
+        @Override
+        Summary summary(GradingScale scale) {
+            return Summary.of(this, scale, 0);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Flyweight flyweight && flyweight.store == store && flyweight.record == record;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(record);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.gradingsystem;
+
+/**
+ * Call count and latency percentiles of one {@link GradingOperation}, as returned by
+ * {@link GradingMetrics#snapshot()}. Percentiles are accurate to within 1/8 of the value.
+ */
+public final class OperationStats {
+    private final String operation;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+
+    OperationStats(String operation, long count, long totalNanos, long maxNanos,
+                   long p50Nanos, long p99Nanos, long p999Nanos) {
+        this.operation = operation;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return operation + "[count=" + count + ", mean=" + getMeanNanos() + "ns, p50=" + p50Nanos
+                + "ns, p99=" + p99Nanos + "ns, p999=" + p999Nanos + "ns, max=" + maxNanos + "ns]";
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.gradingsystem;
+
+/**
+ * Result categories of {@link StudentGradingSystem#evaluateStudentPerformance},
+ * used by the course-level batch evaluation.
+ */
+public enum PerformanceLevel {
+    EXCELLENT("Excellent"),
+    SATISFACTORY("Satisfactory"),
+    PASS("Pass"),
+    FAIL("Fail"),
+    NO_GRADE("No Grade");
+
+    private final String label;
+
+    PerformanceLevel(String label) {
+        this.label = label;
+    }
+
+    /**
+     * The string {@code evaluateStudentPerformance} returns for this level.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    // Same thresholds as StudentGradingSystem.evaluateStudentPerformance
+    static PerformanceLevel of(double grade) {
+        if (grade == GradeTable.NO_GRADE) return NO_GRADE;
+        if (grade >= 85) return EXCELLENT;
+        if (grade >= 70) return SATISFACTORY;
+        if (grade >= 50) return PASS;
+        return FAIL;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.gradingsystem;
+
+/**
+ * Counts of graded scores in 1001 buckets of width 0.1 over 0-100, kept in a
+ * Fenwick tree so that updates, quantiles and ranks all cost O(log 1001).
+ *
+ * A score is counted in the bucket of its nearest multiple of 0.1, so percentiles
+ * are exact for scores with at most one decimal and otherwise off by at most 0.05.
+ */
+final class ScoreDistribution {
+    static final double RESOLUTION = 0.1;
+    static final int BUCKETS = 1001;
+
+    // 1-based Fenwick tree; tree[i] covers buckets (i - lowbit(i), i]
+    private final int[] tree = new int[BUCKETS + 1];
+    private int count;
+
+    int count() {
+        return count;
+    }
+
+    void add(double score) {
+        update(bucketOf(score), 1);
+        count++;
+    }
+
+    void remove(double score) {
+        update(bucketOf(score), -1);
+        count--;
+    }
+
+    /**
+     * Nearest-rank percentile: the smallest counted score such that at least
+     * {@code percentile} percent of all counted scores are less than or equal to it.
+     * Must only be called when {@link #count()} is positive.
+     */
+    double percentile(double percentile) {
+        // Dividing last keeps the rank exact for whole percentiles; p / 100 first can round up past it
+        int rank = Math.max(1, (int) Math.ceil(percentile * count / 100.0));
+        return scoreOf(bucketWithRank(rank));
+    }
+
+    /**
+     * Number of counted scores in buckets above the bucket of {@code score}.
+     */
+    int countAbove(double score) {
+        int atOrBelow = 0;
+        for (int i = bucketOf(score) + 1; i > 0; i -= i & -i) {
+            atOrBelow += tree[i];
+        }
+        return count - atOrBelow;
+    }
+
+    static int bucketOf(double score) {
+        return (int) Math.round(score / RESOLUTION);
+    }
+
+    static double scoreOf(int bucket) {
+        return bucket / 10.0;
+    }
+
+    private void update(int bucket, int delta) {
+        for (int i = bucket + 1; i <= BUCKETS; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // Descends the implicit tree: the 0-based bucket holding the rank-th smallest score
+    private int bucketWithRank(int rank) {
+        int index = 0;
+        for (int step = Integer.highestOneBit(BUCKETS); step != 0; step >>= 1) {
+            int next = index + step;
+            if (next <= BUCKETS && tree[next] < rank) {
+                index = next;
+                rank -= tree[next];
+            }
+        }
+        return index;
+    }
+}
@@ -1,21 +1,54 @@
 package org.example.gradingsystem;
 
-import java.util.HashMap;
 import java.util.Map;
 
 public class Student {
+    // Shared by all standalone students, so creating one does not allocate a dictionary
+    private static final CourseCodeDictionary STANDALONE_COURSE_CODES = new CourseCodeDictionary();
+
     private final String id;
     private final String name;
     private final String surname;
-    private final Map<String, Double> courseGrades = new HashMap<>();
+    private final GradeTable courseGrades;
+    private final CourseCodeDictionary courseCodes;
+    // The system this student is registered with, or null for a standalone student
+    private final StudentGradingSystem owner;
+    // Bumped by every grade change; a cached summary is valid only at the version it was computed at.
+    // Guarded like the grades themselves, i.e. by the owning system's locks.
+    private int gradeVersion;
+    private Summary summary;
 
     public Student(String id, String name, String surname) {
+        this(id, name, surname, STANDALONE_COURSE_CODES, null);
+    }
+
+    /**
+     * Creates a student registered with {@code owner}, whose grades are keyed by the
+     * IDs of the owner's course code dictionary.
+     */
+    Student(String id, String name, String surname, CourseCodeDictionary courseCodes, StudentGradingSystem owner) {
         if (id == null || name == null || surname == null) {
             throw new IllegalArgumentException("Student properties cannot be null");
         }
         this.id = id;
         this.name = name;
         this.surname = surname;
+        this.courseGrades = new GradeTable();
+        this.courseCodes = courseCodes;
+        this.owner = owner;
+    }
+
+    /**
+     * For subclasses that keep the student's data elsewhere and override every accessor,
+     * such as the flyweights of {@link OffHeapStudentGradingSystem}.
+     */
+    Student() {
+        this.id = null;
+        this.name = null;
+        this.surname = null;
+        this.courseGrades = null;
+        this.courseCodes = null;
+        this.owner = null;
     }
 
     // Getters
@@ -31,19 +64,110 @@ public class Student {
         return surname;
     }
 
+    /**
+     * Read-only view of this student's grades keyed by course code.
+     */
     public Map<String, Double> getCourseGrades() {
-        return courseGrades;
+        return courseGrades.asMap(courseCodes);
     }
 
     // Methods
+
+    /**
+     * Sets this student's grade in a course. For a student registered with a
+     * {@link StudentGradingSystem} and a course known to it, this is the same as
+     * {@link StudentGradingSystem#assignGrade(String, String, double)}, so the
+     * course's grade totals, write-ahead log and listeners see the change too.
+     */
     public void addGrade(String courseCode, double score) {
-        if (score < 0 || score > 100) {
-            throw new IllegalArgumentException("Score must be between 0 and 100.");
+        requireValidScore(score);
+        if (courseCode == null) {
+            throw new IllegalArgumentException("Course code cannot be null");
+        }
+        StudentGradingSystem system = owner();
+        if (system != null && system.getCourse(courseCode) != null) {
+            system.assignGrade(getId(), courseCode, score);
+        } else {
+            addGrade(courseCodes().intern(courseCode), score);
         }
-        courseGrades.put(courseCode, score);
     }
 
     public double getGrade(String courseCode) {
-        return courseGrades.getOrDefault(courseCode, -1.0);
+        return getGrade(courseCodes().idOf(courseCode));
+    }
+
+    // Stores the grade only; StudentGradingSystem.assignGrade also updates the course
+    void addGrade(int courseId, double score) {
+        requireValidScore(score);
+        courseGrades.put(courseId, score);
+        gradeVersion++;
+    }
+
+    double getGrade(int courseId) {
+        return courseGrades.get(courseId);
+    }
+
+    // Also rejects NaN, which would poison the running sums of the course grade columns
+    static void requireValidScore(double score) {
+        if (!(score >= 0 && score <= 100)) {
+            throw new IllegalArgumentException("Score must be between 0 and 100.");
+        }
+    }
+
+    StudentGradingSystem owner() {
+        return owner;
+    }
+
+    CourseCodeDictionary courseCodes() {
+        return courseCodes;
+    }
+
+    int getGradeCount() {
+        return courseGrades.size();
+    }
+
+    void forEachGrade(GradeTable.GradeConsumer consumer) {
+        courseGrades.forEach(consumer);
+    }
+
+    /**
+     * GPA and average score under {@code scale}, cached until this student's grades
+     * or the scale change.
+     */
+    Summary summary(GradingScale scale) {
+        Summary cached = summary;
+        int version = gradeVersion;
+        if (cached != null && cached.scale == scale && cached.version == version) {
+            return cached;
+        }
+        Summary fresh = Summary.of(this, scale, version);
+        summary = fresh;
+        return fresh;
+    }
+
+    static final class Summary {
+        final GradingScale scale;
+        final int version;
+        final double gpa;
+        final double average;
+
+        private Summary(GradingScale scale, int version, double gpa, double average) {
+            this.scale = scale;
+            this.version = version;
+            this.gpa = gpa;
+            this.average = average;
+        }
+
+        static Summary of(Student student, GradingScale scale, int version) {
+            double[] totals = new double[2];
+            student.forEachGrade((courseId, score) -> {
+                totals[0] += scale.pointsFor(score);
+                totals[1] += score;
+            });
+            int count = student.getGradeCount();
+            return count == 0
+                    ? new Summary(scale, version, 0.0, 0.0)
+                    : new Summary(scale, version, totals[0] / count, totals[1] / count);
+        }
     }
 }
\ No newline at end of file
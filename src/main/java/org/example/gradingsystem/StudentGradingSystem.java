@@ -1,7 +1,13 @@
 package org.example.gradingsystem;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 public class StudentGradingSystem {
     public int getStudentCount() {
@@ -16,57 +22,472 @@ public class StudentGradingSystem {
         return students.get(studentId);
     }
 
-    private final Map<String, Student> students = new HashMap<>();
-    private final Map<String, Course> courses = new HashMap<>();
+    private static final String[] LETTER_GRADES = {"A", "B", "C", "D", "F"};
+    // Letter of every whole score 0-100, indexed by score / 10
+    private static final byte[] LETTERS_BY_TENS = {'F', 'F', 'F', 'F', 'F', 'F', 'D', 'C', 'B', 'A', 'A'};
+
+    private final Map<String, Student> students;
+    private final Map<String, Course> courses;
+    // Course codes are translated to dense IDs once at the API boundary; grades are keyed by ID
+    private final CourseCodeDictionary courseCodes;
+    // Name and surname lookups; null when the students are scanned instead
+    private final NameIndex nameIndex;
+    private final NameIndex surnameIndex;
+    private volatile WriteAheadLog writeAheadLog;
+    private volatile GradebookEventDispatcher eventDispatcher;
+    private final GradingMetrics metrics = new GradingMetrics();
+    private volatile GradingScale gradingScale = GradingScale.FOUR_POINT;
+
+    public StudentGradingSystem() {
+        this(new HashMap<>(), new HashMap<>());
+    }
+
+    StudentGradingSystem(Map<String, Student> students, Map<String, Course> courses) {
+        this(students, courses, new CourseCodeDictionary(), true);
+    }
+
+    StudentGradingSystem(Map<String, Student> students, Map<String, Course> courses,
+                         CourseCodeDictionary courseCodes, boolean indexNames) {
+        this.students = students;
+        this.courses = courses;
+        this.courseCodes = courseCodes;
+        this.nameIndex = indexNames ? new NameIndex() : null;
+        this.surnameIndex = indexNames ? new NameIndex() : null;
+    }
+
+    // Internal state exposed to snapshot and bulk loaders in this package
+    Collection<Student> students() {
+        return students.values();
+    }
+
+    CourseCodeDictionary courseCodes() {
+        return courseCodes;
+    }
+
+    /**
+     * Journals every subsequent mutating call to {@code log}; each call returns once
+     * its record is durable. Pass {@code null} to stop journaling.
+     */
+    public void attachWriteAheadLog(WriteAheadLog log) {
+        this.writeAheadLog = log;
+    }
+
+    /**
+     * Publishes a {@link GradebookEvent} for every subsequent student, course,
+     * enrollment and grade change to {@code dispatcher}; publishing never blocks.
+     * Pass {@code null} to stop publishing.
+     */
+    public void attachEventDispatcher(GradebookEventDispatcher dispatcher) {
+        this.eventDispatcher = dispatcher;
+    }
+
+    /**
+     * Latency histograms and counters of this system's grading calls; disabled
+     * until {@link GradingMetrics#setEnabled(boolean)} is called.
+     */
+    public GradingMetrics getMetrics() {
+        return metrics;
+    }
 
     public void addStudent(String id, String name, String surname) {
+        registerStudent(id, name, surname);
+        syncWriteAheadLog();
+    }
+
+    // Mutations of the in-memory state; each one journals itself but does not wait for the disk
+    void registerStudent(String id, String name, String surname) {
         if (students.containsKey(id)) {
             throw new IllegalArgumentException("Student with this ID already exists.");
         }
-        students.put(id, new Student(id, name, surname));
+        students.put(id, new Student(id, name, surname, courseCodes, this));
+        if (nameIndex != null) {
+            nameIndex.add(name, id);
+            surnameIndex.add(surname, id);
+        }
+        WriteAheadLog log = writeAheadLog;
+        if (log != null) {
+            log.logAddStudent(id, name, surname);
+        }
+        GradebookEventDispatcher events = eventDispatcher;
+        if (events != null) {
+            events.publish(GradebookEvent.studentAdded(id));
+        }
+    }
+
+    /**
+     * Students whose name starts with {@code prefix}, ignoring case, ordered by name
+     * and then ID; returns at most {@code limit} students after skipping {@code offset}.
+     */
+    public List<Student> findStudentsByNamePrefix(String prefix, int offset, int limit) {
+        return findStudents(nameIndex, Student::getName, prefix, false, offset, limit);
+    }
+
+    public List<Student> findStudentsBySurnamePrefix(String prefix, int offset, int limit) {
+        return findStudents(surnameIndex, Student::getSurname, prefix, false, offset, limit);
+    }
+
+    /**
+     * Students whose name equals {@code name}, ignoring case, paged as in
+     * {@link #findStudentsByNamePrefix}.
+     */
+    public List<Student> findStudentsByName(String name, int offset, int limit) {
+        return findStudents(nameIndex, Student::getName, name, true, offset, limit);
+    }
+
+    public List<Student> findStudentsBySurname(String surname, int offset, int limit) {
+        return findStudents(surnameIndex, Student::getSurname, surname, true, offset, limit);
+    }
+
+    private List<Student> findStudents(NameIndex index, Function<Student, String> field, String value,
+                                       boolean exact, int offset, int limit) {
+        if (value == null) {
+            throw new IllegalArgumentException("Search value cannot be null.");
+        }
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative.");
+        }
+        List<Student> page = new ArrayList<>();
+        if (index != null) {
+            for (String id : index.find(value, exact, offset, limit)) {
+                page.add(students.get(id));
+            }
+            return page;
+        }
+        // Without an index, scan and sort the matches in the same (name, ID) order
+        String key = NameIndex.normalize(value);
+        List<Map.Entry<String, Student>> matches = new ArrayList<>();
+        for (Student student : students.values()) {
+            String candidate = NameIndex.normalize(field.apply(student));
+            if (exact ? candidate.equals(key) : candidate.startsWith(key)) {
+                matches.add(Map.entry(candidate, student));
+            }
+        }
+        matches.sort(Map.Entry.<String, Student>comparingByKey()
+                .thenComparing(entry -> entry.getValue().getId()));
+        for (int i = offset; i < matches.size() && page.size() < limit; i++) {
+            page.add(matches.get(i).getValue());
+        }
+        return page;
     }
 
     public Course getCourse(String courseCode) {
         return courses.get(courseCode);
     }
     public void addCourse(String code, String name) {
+        registerCourse(code, name);
+        syncWriteAheadLog();
+    }
+
+    void registerCourse(String code, String name) {
         if (courses.containsKey(code)) {
             throw new IllegalArgumentException("Course with this code already exists.");
         }
-        courses.put(code, new Course(code, name));
+        courses.put(code, newCourse(code, name, courseCodes.intern(code)));
+        WriteAheadLog log = writeAheadLog;
+        if (log != null) {
+            log.logAddCourse(code, name);
+        }
+        GradebookEventDispatcher events = eventDispatcher;
+        if (events != null) {
+            events.publish(GradebookEvent.courseAdded(code));
+        }
+    }
+
+    // Overridden by systems that keep enrollments in another form
+    Course newCourse(String code, String name, int courseId) {
+        return new Course(code, name, courseId);
     }
 
     public void enrollStudentToCourse(String studentId, String courseCode) {
+        long start = metrics.start();
+        try {
+            Student student = students.get(studentId);
+            Course course = courses.get(courseCode);
+            if (student == null || course == null) {
+                throw new IllegalArgumentException("Student or Course not found.");
+            }
+            enroll(student, course);
+            syncWriteAheadLog();
+        } finally {
+            metrics.record(GradingOperation.ENROLL_STUDENT, start);
+        }
+    }
+
+    // Enrollment and grading of already-resolved objects, shared with bulk loaders
+    void enroll(Student student, Course course) {
+        GradebookEventDispatcher events = eventDispatcher;
+        boolean newlyEnrolled = events != null && course.positionOf(student) < 0;
+        course.addStudent(student);
+        WriteAheadLog log = writeAheadLog;
+        if (log != null) {
+            log.logEnroll(student.getId(), course.getCourseCode());
+        }
+        if (newlyEnrolled) {
+            events.publish(GradebookEvent.enrolled(student.getId(), course.getCourseCode()));
+        }
+    }
+
+    void assignGrade(Student student, Course course, double score) {
+        FlightRecorderEvents.GradeOverwrite overwrite = new FlightRecorderEvents.GradeOverwrite();
+        overwrite.begin();
+        GradebookEventDispatcher events = eventDispatcher;
+        double oldScore = events == null && !overwrite.isEnabled()
+                ? GradeTable.NO_GRADE : student.getGrade(courseIdOf(course));
+        student.addGrade(courseIdOf(course), score);
+        course.recordGrade(student, score);
+        WriteAheadLog log = writeAheadLog;
+        if (log != null) {
+            log.logAssignGrade(student.getId(), course.getCourseCode(), score);
+        }
+        if (events != null) {
+            events.publish(GradebookEvent.gradeChanged(student.getId(), course.getCourseCode(), oldScore, score));
+        }
+        if (oldScore != GradeTable.NO_GRADE && overwrite.isEnabled()) {
+            overwrite.commit(student, course, oldScore, score);
+        }
+    }
+
+    /**
+     * Records whether an enrolled student has completed the attendance requirement
+     * of a course; students start without complete attendance.
+     */
+    public void recordAttendance(String studentId, String courseCode, boolean attendanceComplete) {
         Student student = students.get(studentId);
         Course course = courses.get(courseCode);
         if (student == null || course == null) {
             throw new IllegalArgumentException("Student or Course not found.");
         }
-        course.addStudent(student);
+        recordAttendance(student, course, attendanceComplete);
+        syncWriteAheadLog();
     }
 
-    public void assignGrade(String studentId, String courseCode, double score) {
+    /**
+     * Records whether an enrolled student has a discipline penalty in a course.
+     */
+    public void recordDisciplinePenalty(String studentId, String courseCode, boolean hasDisciplinePenalty) {
         Student student = students.get(studentId);
-        if (!students.containsKey(studentId) || !courses.containsKey(courseCode)) {
+        Course course = courses.get(courseCode);
+        if (student == null || course == null) {
             throw new IllegalArgumentException("Student or Course not found.");
         }
-        student.addGrade(courseCode, score);
+        recordDisciplinePenalty(student, course, hasDisciplinePenalty);
+        syncWriteAheadLog();
     }
 
+    void recordAttendance(Student student, Course course, boolean attendanceComplete) {
+        course.getGradeColumn().setAttendanceComplete(requirePosition(student, course), attendanceComplete);
+        WriteAheadLog log = writeAheadLog;
+        if (log != null) {
+            log.logAttendance(student.getId(), course.getCourseCode(), attendanceComplete);
+        }
+    }
+
+    void recordDisciplinePenalty(Student student, Course course, boolean hasDisciplinePenalty) {
+        course.getGradeColumn().setDisciplinePenalty(requirePosition(student, course), hasDisciplinePenalty);
+        WriteAheadLog log = writeAheadLog;
+        if (log != null) {
+            log.logDisciplinePenalty(student.getId(), course.getCourseCode(), hasDisciplinePenalty);
+        }
+    }
+
+    // Waits outside of any lock, so concurrent callers share one fsync
+    void syncWriteAheadLog() {
+        WriteAheadLog log = writeAheadLog;
+        if (log != null) {
+            log.sync();
+        }
+    }
+
+    public void assignGrade(String studentId, String courseCode, double score) {
+        long start = metrics.start();
+        try {
+            Student student = students.get(studentId);
+            Course course = courses.get(courseCode);
+            if (student == null || course == null) {
+                throw new IllegalArgumentException("Student or Course not found.");
+            }
+            assignGrade(student, course, score);
+            syncWriteAheadLog();
+        } finally {
+            metrics.record(GradingOperation.ASSIGN_GRADE, start);
+        }
+    }
+
+    /**
+     * Point-in-time view of all courses with their enrollments and grades, which
+     * long-running reports can iterate while grading continues. Taking it copies one
+     * pointer per {@value GradeColumn#SEGMENT_SIZE} enrollments; afterwards the first
+     * write to each shared segment copies that segment.
+     */
+    public GradebookView readSnapshot() {
+        Map<String, CourseView> views = new LinkedHashMap<>();
+        for (Map.Entry<String, Course> entry : courses.entrySet()) {
+            views.put(entry.getKey(), entry.getValue().view());
+        }
+        return new GradebookView(views);
+    }
+
+    /**
+     * Mean grade points of all the student's grades under the current grading scale,
+     * or 0.0 without grades. Cached per student until one of its grades changes.
+     */
+    public double getStudentGpa(String studentId) {
+        return summaryOf(requireStudent(studentId)).gpa;
+    }
+
+    /**
+     * Mean score of all the student's grades, or 0.0 without grades. Cached like the GPA.
+     */
+    public double getStudentAverage(String studentId) {
+        return summaryOf(requireStudent(studentId)).average;
+    }
+
+    public GradingScale getGradingScale() {
+        return gradingScale;
+    }
+
+    /**
+     * Switches to another grading scale and recomputes the cached GPA of every
+     * student in parallel, so later GPA queries do not pay for it one by one.
+     */
+    public void setGradingScale(GradingScale scale) {
+        if (scale == null) {
+            throw new IllegalArgumentException("Grading scale cannot be null.");
+        }
+        gradingScale = scale;
+        students.values().parallelStream().forEach(this::summaryOf);
+    }
+
+    Student.Summary summaryOf(Student student) {
+        return student.summary(gradingScale);
+    }
+
+    private Student requireStudent(String studentId) {
+        Student student = students.get(studentId);
+        if (student == null) {
+            throw new IllegalArgumentException("Student not found.");
+        }
+        return student;
+    }
+
+    /**
+     * Average grade of the graded enrolled students of a course; 0.0 if none is graded.
+     * Unlike the other per-course statistics, which throw for an unknown course, this
+     * keeps its original contract and also returns 0.0 for an unknown course.
+     */
     public double calculateCourseAverage(String courseCode) {
+        long start = metrics.start();
+        FlightRecorderEvents.CourseAverage event = new FlightRecorderEvents.CourseAverage();
+        event.begin();
+        try {
+            double average = courseAverage(courseCode);
+            if (event.isEnabled()) {
+                event.commitIfLarge(courses.get(courseCode), average);
+            }
+            return average;
+        } finally {
+            metrics.record(GradingOperation.CALCULATE_COURSE_AVERAGE, start);
+        }
+    }
+
+    // Public queries that are timed delegate to these, which the concurrent system wraps in locks
+    double courseAverage(String courseCode) {
         Course course = courses.get(courseCode);
         if (course == null) return 0.0;
 
-        double totalScore = 0;
-        int gradedStudents = 0;
-        for (Student student : course.getEnrolledStudents()) {
-            double grade = student.getGrade(courseCode);
-            if (grade != -1.0) {
-                totalScore += grade;
-                gradedStudents++;
-            }
+        // Totals are maintained incrementally by assignGrade and enrollStudentToCourse
+        int gradedStudents = course.getGradedCount();
+        return gradedStudents == 0 ? 0.0 : course.getGradeSum() / gradedStudents;
+    }
+
+    /**
+     * Score at the given percentile (0-100, nearest rank) among the graded enrolled
+     * students of a course, to within 0.05; 0.0 if none is graded.
+     *
+     * @throws IllegalArgumentException if the course does not exist, as for every
+     *         per-course statistic except {@link #calculateCourseAverage}
+     */
+    public double getCoursePercentile(String courseCode, double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
         }
-        return gradedStudents == 0 ? 0.0 : totalScore / gradedStudents;
+        return requireCourse(courseCode).getGradeColumn().percentile(percentile);
+    }
+
+    /**
+     * {@link #getCoursePercentile} at 50.
+     *
+     * @throws IllegalArgumentException if the course does not exist
+     */
+    public double getCourseMedian(String courseCode) {
+        return getCoursePercentile(courseCode, 50);
+    }
+
+    /**
+     * Rank of a student among the graded enrolled students of a course, 1 being the
+     * highest grade; grades within the same 0.1 point share a rank. Out of
+     * {@link Course#getGradedCount()} students, in O(log 1001).
+     */
+    public int getStudentRank(String studentId, String courseCode) {
+        Student student = students.get(studentId);
+        Course course = courses.get(courseCode);
+        if (student == null || course == null) {
+            throw new IllegalArgumentException("Student or Course not found.");
+        }
+        int position = requirePosition(student, course);
+        GradeColumn column = course.getGradeColumn();
+        if (!column.isGraded(position)) {
+            throw new IllegalArgumentException("Student has no grade in this course.");
+        }
+        return column.rank(position);
+    }
+
+    /**
+     * The {@code k} graded enrolled students of a course with the highest grades, best
+     * first; equal grades keep enrollment order. The first call builds an ordered set
+     * for the course in O(n log n); assignGrade then keeps it current in O(log n)
+     * and later calls take O(k + log n).
+     */
+    public List<Student> getTopStudents(String courseCode, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K must not be negative.");
+        }
+        Course course = requireCourse(courseCode);
+        return course.studentsAt(course.getGradeColumn().topPositions(k));
+    }
+
+    /**
+     * The {@code k} graded enrolled students of a course with the lowest grades, worst first.
+     */
+    public List<Student> getBottomStudents(String courseCode, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K must not be negative.");
+        }
+        Course course = requireCourse(courseCode);
+        return course.studentsAt(course.getGradeColumn().bottomPositions(k));
+    }
+
+    /**
+     * Counts the graded enrolled students of a course in {@code bucketCount}
+     * equal-width score buckets over 0-100 (100 falls into the last bucket).
+     */
+    public int[] getScoreHistogram(String courseCode, int bucketCount) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket count must be positive.");
+        }
+        return requireCourse(courseCode).getGradeColumn().histogram(bucketCount);
+    }
+
+    /**
+     * Number of graded enrolled students per letter grade, in order A, B, C, D, F.
+     */
+    public Map<String, Integer> getLetterGradeDistribution(String courseCode) {
+        int[] counts = requireCourse(courseCode).getGradeColumn().letterGradeCounts();
+        Map<String, Integer> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < LETTER_GRADES.length; i++) {
+            distribution.put(LETTER_GRADES[i], counts[i]);
+        }
+        return distribution;
     }
 
     public static String convertScoreToLetterGrade(double score) {
@@ -78,8 +499,37 @@ public class StudentGradingSystem {
         return "F";
     }
 
+    /**
+     * Batch form of {@link #convertScoreToLetterGrade} for exports: one ASCII letter
+     * ('A', 'B', 'C', 'D' or 'F') per score. The loop has no data-dependent branches;
+     * truncating a score to an int keeps every threshold exact.
+     *
+     * @throws IllegalArgumentException if any score is above 100 or below 0
+     */
+    public static byte[] convertScoresToLetterGrades(double[] scores) {
+        byte[] letters = new byte[scores.length];
+        boolean invalid = false;
+        for (int i = 0; i < scores.length; i++) {
+            double score = scores[i];
+            invalid |= score > 100 | score < 0;
+            // NaN truncates to 0 and so maps to F, as in the scalar method
+            letters[i] = LETTERS_BY_TENS[Math.min(Math.max((int) score, 0), 100) / 10];
+        }
+        if (invalid) throw new IllegalArgumentException("Invalid score");
+        return letters;
+    }
+
     // 🧮 NEW METHOD 1: Basis Path Testing target
     public String evaluateStudentPerformance(String studentId, String courseCode) {
+        long start = metrics.start();
+        try {
+            return studentPerformance(studentId, courseCode);
+        } finally {
+            metrics.record(GradingOperation.EVALUATE_STUDENT_PERFORMANCE, start);
+        }
+    }
+
+    String studentPerformance(String studentId, String courseCode) {
         Student student = students.get(studentId);
         Course course = courses.get(courseCode);
 
@@ -87,7 +537,7 @@ public class StudentGradingSystem {
             return "Invalid";
         }
 
-        double grade = student.getGrade(courseCode);
+        double grade = student.getGrade(courseIdOf(course));
         if (grade == -1.0) {
             return "No Grade";
         }
@@ -103,8 +553,44 @@ public class StudentGradingSystem {
         }
     }
 
+    /**
+     * Evaluates every enrolled student of a course in one pass over its grades.
+     * Element {@code i} belongs to the {@code i}-th student of
+     * {@link Course#getEnrolledStudents()}.
+     */
+    public PerformanceLevel[] evaluateCoursePerformance(String courseCode) {
+        return requireCourse(courseCode).getGradeColumn().performanceLevels();
+    }
+
+    /**
+     * Number of enrolled students of a course per performance level, including NO_GRADE.
+     */
+    public Map<PerformanceLevel, Integer> getCoursePerformanceCounts(String courseCode) {
+        int[] counts = requireCourse(courseCode).getGradeColumn().performanceCounts();
+        Map<PerformanceLevel, Integer> distribution = new EnumMap<>(PerformanceLevel.class);
+        for (PerformanceLevel level : PerformanceLevel.values()) {
+            distribution.put(level, counts[level.ordinal()]);
+        }
+        return distribution;
+    }
+
     // ⚖️ NEW METHOD 2: Decision Table Testing target
     public String determineExamEligibility(String studentId, String courseCode, boolean attendanceComplete, boolean hasDisciplinePenalty) {
+        long start = metrics.start();
+        FlightRecorderEvents.EligibilityFailure failure = new FlightRecorderEvents.EligibilityFailure();
+        failure.begin();
+        try {
+            String eligibility = examEligibility(studentId, courseCode, attendanceComplete, hasDisciplinePenalty);
+            if (eligibility.equals("Not Eligible") && failure.isEnabled()) {
+                failure.commit(courses.get(courseCode), studentId, 1);
+            }
+            return eligibility;
+        } finally {
+            metrics.record(GradingOperation.DETERMINE_EXAM_ELIGIBILITY, start);
+        }
+    }
+
+    String examEligibility(String studentId, String courseCode, boolean attendanceComplete, boolean hasDisciplinePenalty) {
         Student student = students.get(studentId);
         Course course = courses.get(courseCode);
 
@@ -116,7 +602,7 @@ public class StudentGradingSystem {
         // C1: attendanceComplete?
         // C2: hasDisciplinePenalty?
         // C3: hasAtLeastOneGrade?
-        boolean hasGrade = student.getGrade(courseCode) != -1.0;
+        boolean hasGrade = student.getGrade(courseIdOf(course)) != -1.0;
 
         // Rules
         if (!attendanceComplete) return "Not Eligible";
@@ -124,4 +610,45 @@ public class StudentGradingSystem {
         if (!hasGrade) return "Conditional";
         return "Eligible";
     }
-}
\ No newline at end of file
+
+    /**
+     * Partitions the enrolled students of a course into Eligible, Conditional and
+     * Not Eligible using their recorded attendance and discipline flags and the
+     * rules of {@link #determineExamEligibility}, evaluated 64 students per step.
+     */
+    public EligibilityPartition getCourseEligibility(String courseCode) {
+        FlightRecorderEvents.EligibilityFailure failure = new FlightRecorderEvents.EligibilityFailure();
+        failure.begin();
+        Course course = requireCourse(courseCode);
+        EligibilityPartition partition = course.eligibility();
+        if (partition.getNotEligibleCount() > 0 && failure.isEnabled()) {
+            failure.commit(course, null, partition.getNotEligibleCount());
+        }
+        return partition;
+    }
+
+    private static int requirePosition(Student student, Course course) {
+        int position = course.positionOf(student);
+        if (position < 0) {
+            throw new IllegalArgumentException("Student is not enrolled in this course.");
+        }
+        return position;
+    }
+
+    private Course requireCourse(String courseCode) {
+        Course course = courses.get(courseCode);
+        if (course == null) {
+            throw new IllegalArgumentException("Course not found.");
+        }
+        return course;
+    }
+
+    /**
+     * Dense ID of a registered course. Courses placed into {@link #getCourses()}
+     * directly have no ID yet and get one from their code here.
+     */
+    private int courseIdOf(Course course) {
+        int courseId = course.getCourseId();
+        return courseId != CourseCodeDictionary.UNKNOWN ? courseId : courseCodes.intern(course.getCourseCode());
+    }
+}
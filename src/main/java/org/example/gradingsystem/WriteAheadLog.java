@@ -0,0 +1,408 @@
+package org.example.gradingsystem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the mutating calls of a {@link StudentGradingSystem}
+ * (addStudent, addCourse, enrollStudentToCourse, assignGrade, recordAttendance,
+ * recordDisciplinePenalty), attached with
+ * {@link StudentGradingSystem#attachWriteAheadLog(WriteAheadLog)}.
+ *
+ * Callers append a record and then wait until it is on disk. A single flusher
+ * thread writes everything appended so far and calls {@link FileChannel#force}
+ * once for the whole batch (group commit), so concurrent submissions share one
+ * fsync instead of paying for one each.
+ *
+ * Each record is {@code int length, int crc32, payload}; a torn or corrupt
+ * record at the end of the file, left by a crash mid-write, ends replay.
+ * The log is fail-stop: after the first failed write or force it writes nothing
+ * more, and every later append and sync fails, so no record is ever reported
+ * durable behind a batch that was lost.
+ * {@link #checkpoint} writes a {@link GradebookSnapshot} and starts a new log;
+ * {@link #recover} loads the last snapshot and replays the log on top of it.
+ */
+public final class WriteAheadLog implements Closeable {
+    private static final byte ADD_STUDENT = 1;
+    private static final byte ADD_COURSE = 2;
+    private static final byte ENROLL = 3;
+    private static final byte ASSIGN_GRADE = 4;
+    private static final byte ATTENDANCE = 5;
+    private static final byte DISCIPLINE_PENALTY = 6;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final Condition batchFlushed = lock.newCondition();
+    private final Thread flusher;
+    private final CRC32 crc = new CRC32();
+
+    // Guarded by lock
+    private ByteBuffer pending = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer writing = ByteBuffer.allocate(64 * 1024);
+    private long appendedRecords;
+    private long durableRecords;
+    private boolean flushing;
+    private boolean closed;
+    private IOException failure;
+
+    private WriteAheadLog(Path file) throws IOException {
+        this.file = file;
+        this.channel = openForAppend(file);
+        this.flusher = new Thread(this::flushLoop, "wal-flusher-" + file.getFileName());
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Opens (or creates) a log file and appends new records after the existing ones.
+     * A torn or corrupt tail left by a crash is cut off first, since replay stops
+     * there and would never reach records appended behind it.
+     */
+    public static WriteAheadLog open(Path file) throws IOException {
+        return new WriteAheadLog(file);
+    }
+
+    /**
+     * Opens {@code snapshot} with {@link GradebookSnapshot#open} if it exists, replays
+     * {@code logFile} on top of it and returns the recovered system. Attach a log to the
+     * result to keep journaling. The snapshot file must be writable, see
+     * {@link GradebookSnapshot#open}.
+     */
+    public static StudentGradingSystem recover(Path snapshot, Path logFile) throws IOException {
+        StudentGradingSystem system = Files.exists(snapshot)
+                ? GradebookSnapshot.open(snapshot) : new OffHeapStudentGradingSystem();
+        replay(logFile, system);
+        return system;
+    }
+
+    /**
+     * Loads {@code snapshot} eagerly into the empty {@code system}, e.g. a
+     * {@link ConcurrentStudentGradingSystem}, if it exists and replays {@code logFile}
+     * on top of it.
+     */
+    public static StudentGradingSystem recover(Path snapshot, Path logFile, StudentGradingSystem system)
+            throws IOException {
+        if (Files.exists(snapshot)) {
+            GradebookSnapshot.load(snapshot, system);
+        }
+        replay(logFile, system);
+        return system;
+    }
+
+    /**
+     * Re-applies every intact record of {@code logFile} to {@code system}. Records
+     * the system rejects, e.g. a student already contained in the snapshot, are skipped.
+     *
+     * @return number of records read
+     */
+    public static long replay(Path logFile, StudentGradingSystem system) throws IOException {
+        return scan(logFile, system).records;
+    }
+
+    /**
+     * Length of the intact prefix of {@code logFile}: the end offset of the last
+     * record that passes its length and CRC checks, or 0 if the file does not exist.
+     */
+    public static long validLength(Path logFile) throws IOException {
+        return scan(logFile, null).validLength;
+    }
+
+    // Reads records up to the first torn or corrupt one, applying them to system unless it is null
+    private static Scan scan(Path logFile, StudentGradingSystem system) throws IOException {
+        Scan scan = new Scan();
+        if (!Files.exists(logFile)) {
+            return scan;
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Write-ahead log larger than 2 GB: " + logFile);
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CRC32 crc = new CRC32();
+            while (in.remaining() >= HEADER_BYTES) {
+                int length = in.getInt();
+                int checksum = in.getInt();
+                if (length <= 0 || length > in.remaining()) {
+                    break;
+                }
+                ByteBuffer payload = in.slice(in.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                in.position(in.position() + length);
+                scan.records++;
+                scan.validLength = in.position();
+                if (system != null) {
+                    try {
+                        apply(payload, system);
+                    } catch (IllegalArgumentException e) {
+                        // Already reflected in the snapshot
+                    }
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Corrupt write-ahead log: " + logFile, e);
+        }
+        return scan;
+    }
+
+    private static final class Scan {
+        long records;
+        long validLength;
+    }
+
+    private static void apply(ByteBuffer record, StudentGradingSystem system) {
+        byte type = record.get();
+        switch (type) {
+            case ADD_STUDENT -> system.addStudent(getString(record), getString(record), getString(record));
+            case ADD_COURSE -> system.addCourse(getString(record), getString(record));
+            case ENROLL -> system.enrollStudentToCourse(getString(record), getString(record));
+            case ASSIGN_GRADE -> system.assignGrade(getString(record), getString(record), record.getDouble());
+            case ATTENDANCE -> system.recordAttendance(getString(record), getString(record), record.get() != 0);
+            case DISCIPLINE_PENALTY ->
+                    system.recordDisciplinePenalty(getString(record), getString(record), record.get() != 0);
+            default -> throw new IllegalStateException("Unknown write-ahead log record type " + type);
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code system} and starts an empty log. Must be called
+     * while no other thread modifies the system.
+     */
+    public void checkpoint(StudentGradingSystem system, Path snapshot) throws IOException {
+        sync();
+        // Replaces the file atomically, so a crash leaves the old snapshot and log intact
+        GradebookSnapshot.write(system, snapshot);
+        lock.lock();
+        try {
+            while (flushing) {
+                batchFlushed.awaitUninterruptibly();
+            }
+            channel.truncate(0);
+            channel.force(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void logAddStudent(String id, String name, String surname) {
+        append(ADD_STUDENT, id, name, surname, Double.NaN);
+    }
+
+    void logAddCourse(String code, String name) {
+        append(ADD_COURSE, code, name, null, Double.NaN);
+    }
+
+    void logEnroll(String studentId, String courseCode) {
+        append(ENROLL, studentId, courseCode, null, Double.NaN);
+    }
+
+    void logAssignGrade(String studentId, String courseCode, double score) {
+        append(ASSIGN_GRADE, studentId, courseCode, null, score);
+    }
+
+    void logAttendance(String studentId, String courseCode, boolean attendanceComplete) {
+        append(ATTENDANCE, studentId, courseCode, null, attendanceComplete ? 1 : 0);
+    }
+
+    void logDisciplinePenalty(String studentId, String courseCode, boolean hasDisciplinePenalty) {
+        append(DISCIPLINE_PENALTY, studentId, courseCode, null, hasDisciplinePenalty ? 1 : 0);
+    }
+
+    // value is the score of ASSIGN_GRADE and the 0/1 flag of ATTENDANCE and DISCIPLINE_PENALTY
+    private void append(byte type, String first, String second, String third, double value) {
+        byte[] a = bytes(first);
+        byte[] b = bytes(second);
+        byte[] c = type == ADD_STUDENT ? bytes(third) : null;
+        boolean flag = type == ATTENDANCE || type == DISCIPLINE_PENALTY;
+        int length = 1 + stringBytes(a) + stringBytes(b) + (c == null ? 0 : stringBytes(c))
+                + (type == ASSIGN_GRADE ? Double.BYTES : 0) + (flag ? 1 : 0);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-ahead log is closed.");
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Write-ahead log failed: " + file, failure);
+            }
+            ensureCapacity(HEADER_BYTES + length);
+            int start = pending.position();
+            pending.putInt(length).putInt(0).put(type);
+            putString(pending, a);
+            putString(pending, b);
+            if (c != null) {
+                putString(pending, c);
+            }
+            if (type == ASSIGN_GRADE) {
+                pending.putDouble(value);
+            } else if (flag) {
+                pending.put((byte) value);
+            }
+            crc.reset();
+            crc.update(pending.array(), start + HEADER_BYTES, length);
+            pending.putInt(start + Integer.BYTES, (int) crc.getValue());
+            appendedRecords++;
+            workAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every record appended so far is on disk.
+     *
+     * @throws UncheckedIOException if the log could not be written, now or by an earlier batch
+     */
+    public void sync() {
+        lock.lock();
+        try {
+            long target = appendedRecords;
+            while (durableRecords < target && failure == null) {
+                batchFlushed.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Write-ahead log failed: " + file, failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long batchEnd;
+            lock.lock();
+            try {
+                while (pending.position() == 0 && !closed) {
+                    workAvailable.awaitUninterruptibly();
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                ByteBuffer full = pending;
+                pending = writing;
+                writing = full;
+                batchEnd = appendedRecords;
+                flushing = true;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                writing.flip();
+                while (writing.hasRemaining()) {
+                    channel.write(writing);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+            writing.clear();
+
+            lock.lock();
+            try {
+                flushing = false;
+                if (error == null) {
+                    durableRecords = batchEnd;
+                } else {
+                    // Later batches must not become durable behind the lost one
+                    failure = error;
+                    pending.clear();
+                }
+                batchFlushed.signalAll();
+                if (failure != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (pending.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            workAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private static FileChannel openForAppend(Path file) throws IOException {
+        long validLength = validLength(file);
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        try {
+            if (channel.size() > validLength) {
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringBytes(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer out, byte[] value) {
+        if (value == null) {
+            out.putInt(-1);
+        } else {
+            out.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
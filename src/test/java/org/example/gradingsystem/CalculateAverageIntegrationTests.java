@@ -57,13 +57,33 @@ public class CalculateAverageIntegrationTests {
         return mockStudent;
     }
 
+    /**
+     * Stubs the enrollment of the mock Course together with the running grade totals
+     * (sum and graded count) that a real Course maintains and the SUT reads.
+     */
+    private void stubEnrollment(List<Student> students) {
+        double gradeSum = 0;
+        int gradedCount = 0;
+        for (Student student : students) {
+            double grade = student.getGrade(COURSE_CODE);
+            if (grade != -1.0) {
+                gradeSum += grade;
+                gradedCount++;
+            }
+        }
+        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        when(mockCourse.getStudentCount()).thenReturn(students.size());
+        when(mockCourse.getGradeSum()).thenReturn(gradeSum);
+        when(mockCourse.getGradedCount()).thenReturn(gradedCount);
+    }
+
     // --- 22 Test Cases (R1-R22) covering boundary, single, multiple, and mixed graded/ungraded scenarios ---
 
     // R1: C1 (Empty List)
     @Test
     void case01_emptyCourse_shouldReturnZeroAverage() {
         // Mock Behavior for Course: Empty list
-        when(mockCourse.getEnrolledStudents()).thenReturn(Collections.emptyList());
+        stubEnrollment(Collections.emptyList());
         assertEquals(0.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -71,7 +91,7 @@ public class CalculateAverageIntegrationTests {
     @Test
     void case02_singleExcellentGrade_shouldReturn90() {
         List<Student> students = Collections.singletonList(mockStudentWithGrade("1", 90.0));
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(90.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -79,7 +99,7 @@ public class CalculateAverageIntegrationTests {
     @Test
     void case03_singleUngradedStudent2_shouldReturnZeroAverage() {
         List<Student> students = Collections.singletonList(mockStudentWithGrade("2", -1.0));
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(0.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -87,7 +107,7 @@ public class CalculateAverageIntegrationTests {
     @Test
     void case04_singleFailBoundaryGrade_shouldReturn49_9() {
         List<Student> students = Collections.singletonList(mockStudentWithGrade("3", 49.9));
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(49.9, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -95,7 +115,7 @@ public class CalculateAverageIntegrationTests {
     @Test
     void case05_singleUngradedStudent_shouldReturnZeroAverage() {
         List<Student> students = Collections.singletonList(mockStudentWithGrade("4", -1.0));
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(0.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -106,7 +126,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("5", 90.0),
                 mockStudentWithGrade("6", 80.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(85.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -117,7 +137,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("7", 70.0),
                 mockStudentWithGrade("8", 70.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(70.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -128,7 +148,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("9", 84.9),
                 mockStudentWithGrade("10", 85.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(84.95, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -139,7 +159,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("11", 0.0),
                 mockStudentWithGrade("12", 0.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(0.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -151,7 +171,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("14", 100.0),
                 mockStudentWithGrade("15", 100.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(100.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -163,7 +183,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("17", 50.0),
                 mockStudentWithGrade("18", 80.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(60.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -175,7 +195,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("20", 70.0),
                 mockStudentWithGrade("21", 80.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(70.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -186,7 +206,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("22", 90.0),
                 mockStudentWithGrade("23", -1.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(90.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -198,7 +218,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("25", 70.0),
                 mockStudentWithGrade("26", -1.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(80.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -210,7 +230,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("28", -1.0),
                 mockStudentWithGrade("29", -1.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(50.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -223,7 +243,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("32", 50.0),
                 mockStudentWithGrade("33", -1.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(75.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -237,7 +257,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("39", 50.0),
                 mockStudentWithGrade("40", 50.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(50.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -251,7 +271,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("44", 0.0),
                 mockStudentWithGrade("45", 0.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(20.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -265,7 +285,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("49", 1.0),
                 mockStudentWithGrade("50", 1.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(1.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -276,7 +296,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("37", 100.0),
                 mockStudentWithGrade("38", 0.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(50.0, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -287,7 +307,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("51", 50.0),
                 mockStudentWithGrade("52", 49.9)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(49.95, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 
@@ -298,7 +318,7 @@ public class CalculateAverageIntegrationTests {
                 mockStudentWithGrade("53", 69.9),
                 mockStudentWithGrade("54", 70.0)
         );
-        when(mockCourse.getEnrolledStudents()).thenReturn(students);
+        stubEnrollment(students);
         assertEquals(69.95, system.calculateCourseAverage(COURSE_CODE), 0.01);
     }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Thread-Safe Grading System Variant
+ *
+ * Runs the same operations as the single-threaded system from several threads
+ * at once and checks that no update is lost and readers never fail:
+ * - Concurrent enrollment and grading across students and courses
+ * - Average readers running while grades are being written
+ * - Duplicate student registration racing on the same ID
+ * - Read snapshots staying fixed while grades are being written
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Concurrent Grading System Tests")
+class ConcurrentStudentGradingSystemTest {
+
+    private static final int THREADS = 8;
+    private static final int STUDENTS_PER_THREAD = 250;
+    private static final int COURSES = 4;
+
+    private ConcurrentStudentGradingSystem system;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        System.out.println("--- @BeforeEach: Setting up concurrent system ---");
+        system = new ConcurrentStudentGradingSystem(16);
+        for (int c = 0; c < COURSES; c++) {
+            system.addCourse("C" + c, "Course " + c);
+        }
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @Test
+    @DisplayName("Concurrent enrollment and grading should not lose updates")
+    void concurrentEnrollmentAndGrading() throws Exception {
+        System.out.println(">>> Running test: concurrentEnrollmentAndGrading");
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            writers.add(() -> {
+                for (int i = 0; i < STUDENTS_PER_THREAD; i++) {
+                    String studentId = thread + "-" + i;
+                    system.addStudent(studentId, "Name", "Surname");
+                    for (int c = 0; c < COURSES; c++) {
+                        system.enrollStudentToCourse(studentId, "C" + c);
+                        system.assignGrade(studentId, "C" + c, 50.0);
+                        system.assignGrade(studentId, "C" + c, 60.0 + c); // overwrite
+                    }
+                }
+                return null;
+            });
+        }
+
+        System.out.println("Action: Running " + THREADS + " writer threads.");
+        for (Future<Void> future : executor.invokeAll(writers)) {
+            future.get();
+        }
+        executor.shutdown();
+
+        System.out.println("Verification: Every enrollment and final grade is reflected.");
+        assertEquals(THREADS * STUDENTS_PER_THREAD, system.getStudentCount());
+        for (int c = 0; c < COURSES; c++) {
+            Course course = system.getCourse("C" + c);
+            assertEquals(THREADS * STUDENTS_PER_THREAD, course.getStudentCount());
+            assertEquals(THREADS * STUDENTS_PER_THREAD, course.getGradedCount());
+            assertEquals(60.0 + c, system.calculateCourseAverage("C" + c), 0.0001);
+        }
+        assertEquals("Pass", system.evaluateStudentPerformance("3-7", "C0"));
+        assertEquals("Eligible", system.determineExamEligibility("3-7", "C0", true, false));
+        System.out.println("<<< Test finished: concurrentEnrollmentAndGrading");
+    }
+
+    @Test
+    @DisplayName("Average readers should run alongside writers and see consistent totals")
+    void readersRunAlongsideWriters() throws Exception {
+        System.out.println(">>> Running test: readersRunAlongsideWriters");
+        for (int i = 0; i < STUDENTS_PER_THREAD; i++) {
+            system.addStudent("S" + i, "Name", "Surname");
+            system.enrollStudentToCourse("S" + i, "C0");
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger inconsistentReads = new AtomicInteger();
+
+        System.out.println("Action: One writer alternates grades 40/80 while readers poll the average.");
+        Future<?> writer = executor.submit(() -> {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < STUDENTS_PER_THREAD; i++) {
+                    system.assignGrade("S" + i, "C0", round % 2 == 0 ? 40.0 : 80.0);
+                }
+            }
+            writing.set(false);
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < THREADS - 1; r++) {
+            readers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    double average = system.calculateCourseAverage("C0");
+                    if (average != 0.0 && (average < 40.0 - 1e-9 || average > 80.0 + 1e-9)) {
+                        inconsistentReads.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        writer.get();
+        for (Future<?> reader : readers) {
+            reader.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        System.out.println("Verification: Readers never saw a torn average and the last round wins.");
+        assertEquals(0, inconsistentReads.get());
+        assertEquals(80.0, system.calculateCourseAverage("C0"), 0.0001);
+        System.out.println("<<< Test finished: readersRunAlongsideWriters");
+    }
+
+    @Test
+    @DisplayName("Racing registrations of the same student ID should admit exactly one")
+    void duplicateStudentRace() throws Exception {
+        System.out.println(">>> Running test: duplicateStudentRace");
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            tasks.add(() -> {
+                try {
+                    system.addStudent("dup", "Name", "Surname");
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        System.out.println("Action: " + THREADS + " threads register ID 'dup' at once.");
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        executor.shutdown();
+
+        System.out.println("Verification: One registration succeeded, the rest were rejected.");
+        assertEquals(1, system.getStudentCount());
+        assertEquals(THREADS - 1, rejected.get());
+        System.out.println("<<< Test finished: duplicateStudentRace");
+    }
+
+    @Test
+    @DisplayName("Read snapshots should stay fixed while writers keep grading")
+    void readSnapshotsStayFixedDuringWrites() throws Exception {
+        System.out.println(">>> Running test: readSnapshotsStayFixedDuringWrites");
+        for (int i = 0; i < STUDENTS_PER_THREAD; i++) {
+            system.addStudent("S" + i, "Name", "Surname");
+            system.enrollStudentToCourse("S" + i, "C0");
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger changedViews = new AtomicInteger();
+
+        System.out.println("Action: One writer regrades every student while readers iterate snapshots.");
+        Future<?> writer = executor.submit(() -> {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < STUDENTS_PER_THREAD; i++) {
+                    system.assignGrade("S" + i, "C0", round % 2 == 0 ? 40.0 : 80.0);
+                }
+            }
+            writing.set(false);
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < THREADS - 1; r++) {
+            readers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    CourseView view = system.readSnapshot().getCourse("C0");
+                    double[] first = new double[view.getStudentCount()];
+                    for (int i = 0; i < first.length; i++) {
+                        first[i] = view.getGrade(i);
+                    }
+                    Thread.yield();
+                    for (int i = 0; i < first.length; i++) {
+                        if (view.getGrade(i) != first[i]) {
+                            changedViews.incrementAndGet();
+                            break;
+                        }
+                    }
+                }
+            }));
+        }
+        writer.get();
+        for (Future<?> reader : readers) {
+            reader.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        System.out.println("Verification: No view changed under its reader and the last round is visible.");
+        assertEquals(0, changedViews.get());
+        assertEquals(80.0, system.readSnapshot().getCourse("C0").calculateAverage(), 0.0001);
+        System.out.println("<<< Test finished: readSnapshotsStayFixedDuringWrites");
+    }
+}
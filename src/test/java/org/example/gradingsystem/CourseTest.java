@@ -2,6 +2,9 @@ package org.example.gradingsystem;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -227,4 +230,72 @@ class CourseTest {
         assertEquals(100, course.getEnrolledStudents().size());
         System.out.println("<<< Test finished: addLargeNumberOfStudents");
     }
+
+    @Test
+    @DisplayName("Should treat students with the same ID as one enrollment")
+    void addStudentsWithSameId_ShouldNotDuplicate() {
+        System.out.println(">>> Running test: addStudentsWithSameId_ShouldNotDuplicate");
+        Course course = new Course("CS101", "Programming I");
+        Student original = new Student("201", "Fatma", "Öztürk");
+        Student sameId = new Student("201", "Fatma", "Öztürk");
+
+        System.out.println("Action: Adding two distinct Student objects sharing ID '201'.");
+        course.addStudent(original);
+        course.addStudent(sameId);
+
+        System.out.println("Verification: Only the first object is enrolled.");
+        assertEquals(1, course.getStudentCount());
+        assertSame(original, course.getEnrolledStudents().get(0));
+        assertTrue(course.isEnrolled("201"));
+        assertFalse(course.isEnrolled("202"));
+        System.out.println("<<< Test finished: addStudentsWithSameId_ShouldNotDuplicate");
+    }
+
+    @Test
+    @DisplayName("Enrollment list should not be modifiable from outside the course")
+    void enrolledStudentsListIsReadOnly() {
+        System.out.println(">>> Running test: enrolledStudentsListIsReadOnly");
+        Course course = new Course("CS101", "Programming I");
+        Student student = new Student("201", "Fatma", "Öztürk");
+
+        System.out.println("Action: Attempting to add a student through the returned list.");
+        assertThrows(UnsupportedOperationException.class, () -> course.getEnrolledStudents().add(student));
+
+        System.out.println("Verification: Course enrollment is unchanged.");
+        assertFalse(course.isEnrolled("201"));
+        assertEquals(0, course.getStudentCount());
+        System.out.println("<<< Test finished: enrolledStudentsListIsReadOnly");
+    }
+
+    /**
+     * Test Case: Enrollment Scalability
+     *
+     * Purpose: Verifies that enrolling one million students into a single course
+     * stays linear, i.e. duplicate checks do not scan the enrollment list.
+     *
+     * Expected Result: All students enrolled in order within the time limit
+     */
+    @Test
+    @DisplayName("Should enroll one million students in linear time")
+    void addOneMillionStudents() {
+        System.out.println(">>> Running test: addOneMillionStudents");
+        Course course = new Course("CS100", "Intro to Computing");
+        int studentCount = 1_000_000;
+
+        System.out.println("Action: Enrolling " + studentCount + " students, each one twice.");
+        assertTimeout(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < studentCount; i++) {
+                Student student = new Student("S" + i, "Student", "Surname");
+                course.addStudent(student);
+                course.addStudent(student);
+            }
+        });
+
+        System.out.println("Verification: Enrollment count and order are preserved.");
+        assertEquals(studentCount, course.getStudentCount());
+        assertEquals("S0", course.getEnrolledStudents().get(0).getId());
+        assertEquals("S" + (studentCount - 1), course.getEnrolledStudents().get(studentCount - 1).getId());
+        assertTrue(course.isEnrolled("S500000"));
+        System.out.println("<<< Test finished: addOneMillionStudents");
+    }
 }
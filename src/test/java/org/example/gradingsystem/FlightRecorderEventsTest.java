@@ -0,0 +1,212 @@
+package org.example.gradingsystem;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Flight Recorder Events
+ *
+ * Validates the JFR events emitted by the grading system:
+ * - Grade overwrites are recorded, first assignments are not
+ * - Course averages are recorded only for large enrollments
+ * - Single and course-wide eligibility failures are recorded
+ * - CSV imports and snapshot loads record one bulk enrollment per course
+ * - Per-call events are disabled by default, coarse ones are on without a threshold
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Flight Recorder Events Tests")
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    private interface Action {
+        void run() throws IOException;
+    }
+
+    private List<RecordedEvent> record(String eventName, Action action) throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.gradingsystem." + eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static String defaultSetting(Class<? extends Event> eventClass, String setting) {
+        return EventType.getEventType(eventClass).getSettingDescriptors().stream()
+                .filter(descriptor -> descriptor.getName().equals(setting))
+                .findFirst().orElseThrow().getDefaultValue();
+    }
+
+    private static StudentGradingSystem sampleSystem() {
+        StudentGradingSystem system = new StudentGradingSystem();
+        system.addCourse("CS101", "Introduction to Programming");
+        system.addCourse("CS102", "Data Structures");
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        system.addStudent("102", "Ayşe", "Demir");
+        return system;
+    }
+
+    @Test
+    @DisplayName("Only grade assignments that replace a grade should be recorded")
+    void recordsGradeOverwrites() throws IOException {
+        System.out.println(">>> Running test: recordsGradeOverwrites");
+        StudentGradingSystem system = sampleSystem();
+        system.enrollStudentToCourse("101", "CS101");
+        system.enrollStudentToCourse("102", "CS101");
+
+        System.out.println("Action: Grading a student once and another student twice.");
+        List<RecordedEvent> events = record("GradeOverwrite", () -> {
+            system.assignGrade("101", "CS101", 70.0);
+            system.assignGrade("102", "CS101", 60.0);
+            system.assignGrade("102", "CS101", 65.0);
+        });
+
+        System.out.println("Verification: One event carrying both scores and the enrollment size.");
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("CS101", event.getString("courseCode"));
+        assertEquals(2, event.getInt("enrollmentSize"));
+        assertEquals("102", event.getString("studentId"));
+        assertEquals(60.0, event.getDouble("oldScore"));
+        assertEquals(65.0, event.getDouble("newScore"));
+        assertFalse(event.getDuration().isNegative());
+        System.out.println("<<< Test finished: recordsGradeOverwrites\n");
+    }
+
+    @Test
+    @DisplayName("Course averages should be recorded only for large enrollments")
+    void recordsLargeCourseAverages() throws IOException {
+        System.out.println(">>> Running test: recordsLargeCourseAverages");
+        StudentGradingSystem system = sampleSystem();
+        for (int i = 0; i < FlightRecorderEvents.LARGE_ENROLLMENT; i++) {
+            String id = "S" + i;
+            system.addStudent(id, "Name", "Surname");
+            system.enrollStudentToCourse(id, "CS102");
+            system.assignGrade(id, "CS102", 80.0);
+        }
+        system.enrollStudentToCourse("101", "CS101");
+
+        System.out.println("Action: Averaging a two-student course, a large course and an unknown course.");
+        List<RecordedEvent> events = record("CourseAverage", () -> {
+            system.calculateCourseAverage("CS101");
+            system.calculateCourseAverage("CS102");
+            system.calculateCourseAverage("CS999");
+        });
+
+        System.out.println("Verification: Only the large course is recorded.");
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("CS102", event.getString("courseCode"));
+        assertEquals(FlightRecorderEvents.LARGE_ENROLLMENT, event.getInt("enrollmentSize"));
+        assertEquals(80.0, event.getDouble("average"), 1e-9);
+        System.out.println("<<< Test finished: recordsLargeCourseAverages\n");
+    }
+
+    @Test
+    @DisplayName("Single and course-wide eligibility failures should be recorded")
+    void recordsEligibilityFailures() throws IOException {
+        System.out.println(">>> Running test: recordsEligibilityFailures");
+        StudentGradingSystem system = sampleSystem();
+        system.enrollStudentToCourse("101", "CS101");
+        system.enrollStudentToCourse("102", "CS101");
+        system.assignGrade("101", "CS101", 90.0);
+        system.recordAttendance("101", "CS101", true);
+
+        System.out.println("Action: Checking an eligible student, an ineligible student and the whole course.");
+        List<RecordedEvent> events = record("EligibilityFailure", () -> {
+            assertEquals("Eligible", system.determineExamEligibility("101", "CS101", true, false));
+            assertEquals("Not Eligible", system.determineExamEligibility("102", "CS101", false, false));
+            assertEquals(1, system.getCourseEligibility("CS101").getNotEligibleCount());
+        });
+
+        System.out.println("Verification: One event for the student and one for the course.");
+        assertEquals(2, events.size());
+        RecordedEvent single = events.stream().filter(e -> e.getString("studentId") != null).findFirst().orElseThrow();
+        assertEquals("102", single.getString("studentId"));
+        assertEquals(1, single.getInt("notEligibleCount"));
+        RecordedEvent course = events.stream().filter(e -> e.getString("studentId") == null).findFirst().orElseThrow();
+        assertEquals("CS101", course.getString("courseCode"));
+        assertEquals(2, course.getInt("enrollmentSize"));
+        assertEquals(1, course.getInt("notEligibleCount"));
+        System.out.println("<<< Test finished: recordsEligibilityFailures\n");
+    }
+
+    @Test
+    @DisplayName("CSV imports and snapshot loads should record one bulk enrollment per course")
+    void recordsBulkEnrollments() throws IOException {
+        System.out.println(">>> Running test: recordsBulkEnrollments");
+        StudentGradingSystem system = sampleSystem();
+        String csv = "studentId,courseCode\n101,CS101\n102,CS101\n999,CS101\n101,CS102\n";
+
+        System.out.println("Action: Importing enrollments for two courses, then loading a snapshot.");
+        List<RecordedEvent> imported = record("BulkEnrollment",
+                () -> new GradebookCsvImporter(system).importEnrollments(new StringReader(csv)));
+        Path snapshot = directory.resolve("gradebook.snapshot");
+        GradebookSnapshot.write(system, snapshot);
+        List<RecordedEvent> loaded = record("BulkEnrollment", () -> GradebookSnapshot.read(snapshot));
+
+        System.out.println("Verification: One event per course run, rejected rows excluded.");
+        assertEquals(List.of("CS101:2:2:csv", "CS102:1:1:csv"), describe(imported));
+        assertEquals(List.of("CS101:2:2:snapshot", "CS102:1:1:snapshot"), describe(loaded));
+        System.out.println("<<< Test finished: recordsBulkEnrollments\n");
+    }
+
+    private static List<String> describe(List<RecordedEvent> events) {
+        return events.stream()
+                .map(e -> e.getString("courseCode") + ":" + e.getInt("enrolled") + ":"
+                        + e.getInt("enrollmentSize") + ":" + e.getString("source"))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Per-call events should be disabled by default, coarse events recorded without a threshold")
+    void defaultSettings() throws IOException {
+        System.out.println(">>> Running test: defaultSettings");
+
+        System.out.println("Action: Reading the default settings and recording with the default configuration.");
+        StudentGradingSystem system = sampleSystem();
+        system.enrollStudentToCourse("101", "CS101");
+        Path file = directory.resolve("default.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            system.assignGrade("101", "CS101", 70.0);
+            system.assignGrade("101", "CS101", 75.0);
+            system.determineExamEligibility("101", "CS101", false, true);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        System.out.println("Verification: Only the coarse events are enabled, and no per-call event is recorded.");
+        assertEquals("false", defaultSetting(FlightRecorderEvents.GradeOverwrite.class, "enabled"));
+        assertEquals("false", defaultSetting(FlightRecorderEvents.EligibilityFailure.class, "enabled"));
+        assertEquals("true", defaultSetting(FlightRecorderEvents.CourseAverage.class, "enabled"));
+        assertEquals("0 ns", defaultSetting(FlightRecorderEvents.CourseAverage.class, "threshold"));
+        assertEquals("true", defaultSetting(FlightRecorderEvents.BulkEnrollment.class, "enabled"));
+        assertEquals("0 ns", defaultSetting(FlightRecorderEvents.BulkEnrollment.class, "threshold"));
+        assertTrue(RecordingFile.readAllEvents(file).stream()
+                .noneMatch(event -> event.getEventType().getName().startsWith("org.example.gradingsystem.")));
+        System.out.println("<<< Test finished: defaultSettings");
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Course-Major Grade Column
+ *
+ * Validates the columnar storage behind each Course:
+ * - Positions follow enrollment order and start ungraded unless a grade is given
+ * - The presence bitmap stays correct across 64-bit word boundaries
+ * - Running totals follow grade overwrites
+ * - Histogram passes only visit graded positions
+ * - Letter-grade counts are maintained incrementally across overwrites
+ * - Percentiles follow grade overwrites, stay within their error bound and hit the exact nearest rank
+ * - Top and bottom rankings follow grade overwrites
+ * - Snapshots keep their scores while later writes copy the shared segments
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Tests for GradeColumn")
+class GradeColumnTest {
+
+    @Test
+    @DisplayName("Appended positions should keep their grade or stay ungraded")
+    void appendKeepsGradeOrNoGrade() {
+        System.out.println(">>> Running test: appendKeepsGradeOrNoGrade");
+        GradeColumn column = new GradeColumn();
+
+        System.out.println("Action: Appending one graded and one ungraded position.");
+        assertEquals(0, column.append(75.0));
+        assertEquals(1, column.append(-1.0));
+
+        System.out.println("Verification: Grades, presence bits and totals.");
+        assertEquals(2, column.size());
+        assertTrue(column.isGraded(0));
+        assertFalse(column.isGraded(1));
+        assertEquals(75.0, column.get(0));
+        assertEquals(-1.0, column.get(1));
+        assertEquals(75.0, column.sum());
+        assertEquals(1, column.gradedCount());
+        System.out.println("<<< Test finished: appendKeepsGradeOrNoGrade");
+    }
+
+    @Test
+    @DisplayName("Presence bitmap and totals should stay correct across word boundaries")
+    void gradesAcrossWordBoundaries() {
+        System.out.println(">>> Running test: gradesAcrossWordBoundaries");
+        GradeColumn column = new GradeColumn();
+        for (int i = 0; i < 200; i++) {
+            column.append(-1.0);
+        }
+
+        System.out.println("Action: Grading positions 63, 64 and 199, then overwriting 64.");
+        column.set(63, 50.0);
+        column.set(64, 60.0);
+        column.set(199, 100.0);
+        column.set(64, 90.0);
+
+        System.out.println("Verification: Only the three positions are graded with latest values.");
+        assertEquals(3, column.gradedCount());
+        assertEquals(240.0, column.sum(), 0.0001);
+        assertEquals(90.0, column.get(64));
+        assertFalse(column.isGraded(65));
+        assertArrayEquals(new int[]{0, 0, 1, 0, 2}, column.histogram(5));
+        assertArrayEquals(new int[]{2, 0, 0, 0, 1}, column.letterGradeCounts());
+        System.out.println("<<< Test finished: gradesAcrossWordBoundaries");
+    }
+
+    @Test
+    @DisplayName("Histogram should put boundary scores into the expected buckets")
+    void histogramBucketBoundaries() {
+        System.out.println(">>> Running test: histogramBucketBoundaries");
+        GradeColumn column = new GradeColumn();
+        for (double score : new double[]{0.0, 9.99, 10.0, 55.5, 99.99, 100.0}) {
+            column.append(score);
+        }
+
+        System.out.println("Verification: 10 buckets of width 10, 100 in the last bucket.");
+        assertArrayEquals(new int[]{2, 1, 0, 0, 0, 1, 0, 0, 0, 2}, column.histogram(10));
+        assertArrayEquals(new int[]{6}, column.histogram(1));
+        System.out.println("<<< Test finished: histogramBucketBoundaries");
+    }
+
+    @Test
+    @DisplayName("Quantiles should follow nearest rank and grade overwrites")
+    void quantilesFollowOverwrites() {
+        System.out.println(">>> Running test: quantilesFollowOverwrites");
+        GradeColumn column = new GradeColumn();
+        assertEquals(0.0, column.percentile(50));
+        for (double score : new double[]{40.0, 10.0, 100.0, 70.5, 0.0}) {
+            column.append(score);
+        }
+
+        System.out.println("Verification: Minimum, median, maximum and a rank between values.");
+        assertEquals(0.0, column.percentile(0));
+        assertEquals(40.0, column.percentile(50));
+        assertEquals(70.5, column.percentile(80));
+        assertEquals(100.0, column.percentile(81));
+        assertEquals(100.0, column.percentile(100));
+
+        System.out.println("Action: Overwriting 100 with 20.");
+        column.set(2, 20.0);
+        assertEquals(20.0, column.percentile(50));
+        assertEquals(70.5, column.percentile(100));
+        System.out.println("<<< Test finished: quantilesFollowOverwrites");
+    }
+
+    @Test
+    @DisplayName("Percentiles of unrounded scores should stay within 0.05")
+    void quantileErrorBound() {
+        System.out.println(">>> Running test: quantileErrorBound");
+        GradeColumn column = new GradeColumn();
+        Random random = new Random(7);
+        double[] scores = new double[1001];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextDouble() * 100;
+            column.append(scores[i]);
+        }
+        Arrays.sort(scores);
+
+        System.out.println("Verification: Every percentile against the sorted scores.");
+        for (int p = 0; p <= 100; p++) {
+            double exact = scores[Math.max(1, (p * scores.length + 99) / 100) - 1];
+            assertEquals(exact, column.percentile(p), 0.05 + 1e-9);
+        }
+        System.out.println("<<< Test finished: quantileErrorBound");
+    }
+
+    @Test
+    @DisplayName("Percentiles should hit the exact nearest rank for every size and whole percentile")
+    void percentileRanksAreExact() {
+        System.out.println(">>> Running test: percentileRanksAreExact");
+        GradeColumn column = new GradeColumn();
+
+        System.out.println("Action: Growing a column of scores 0.1, 0.2, ... one score at a time.");
+        for (int n = 1; n <= 1000; n++) {
+            column.append(n / 10.0);
+            for (int p = 0; p <= 100; p++) {
+                int rank = Math.max(1, (p * n + 99) / 100);
+                assertEquals(rank / 10.0, column.percentile(p), 1e-9, "n=" + n + ", p=" + p);
+            }
+        }
+
+        System.out.println("Verification: Ranks where p / 100 first would round up.");
+        GradeColumn hundred = new GradeColumn();
+        for (int i = 1; i <= 100; i++) {
+            hundred.append(i);
+        }
+        assertEquals(7.0, hundred.percentile(7));
+        GradeColumn twentyFive = new GradeColumn();
+        for (int i = 1; i <= 25; i++) {
+            twentyFive.append(i);
+        }
+        assertEquals(7.0, twentyFive.percentile(28));
+        System.out.println("<<< Test finished: percentileRanksAreExact");
+    }
+
+    @Test
+    @DisplayName("Letter-grade counts should move between letters on overwrite")
+    void letterCountsFollowOverwrites() {
+        System.out.println(">>> Running test: letterCountsFollowOverwrites");
+        GradeColumn column = new GradeColumn();
+        column.append(89.99);
+        column.append(60.0);
+        column.append(-1.0);
+
+        System.out.println("Action: Raising the B to an A, lowering the D to an F, grading the third.");
+        column.set(0, 90.0);
+        column.set(1, 59.99);
+        column.set(2, 70.0);
+
+        System.out.println("Verification: Each grade is counted once under its latest letter.");
+        assertArrayEquals(new int[]{1, 0, 1, 0, 1}, column.letterGradeCounts());
+        column.letterGradeCounts()[0] = 99;
+        assertArrayEquals(new int[]{1, 0, 1, 0, 1}, column.letterGradeCounts());
+        System.out.println("<<< Test finished: letterCountsFollowOverwrites");
+    }
+
+    @Test
+    @DisplayName("Top and bottom positions should follow overwrites and keep ties in order")
+    void topAndBottomPositions() {
+        System.out.println(">>> Running test: topAndBottomPositions");
+        GradeColumn column = new GradeColumn();
+        assertArrayEquals(new int[0], column.topPositions(3));
+        for (double score : new double[]{70.0, 95.0, -1.0, 70.0, 40.0}) {
+            column.append(score);
+        }
+
+        System.out.println("Verification: Highest first, equal scores by position, ungraded left out.");
+        assertArrayEquals(new int[]{1, 0, 3}, column.topPositions(3));
+        assertArrayEquals(new int[]{4, 3}, column.bottomPositions(2));
+        assertArrayEquals(new int[]{1, 0, 3, 4}, column.topPositions(10));
+
+        System.out.println("Action: Overwriting the top score and grading position 2.");
+        column.set(1, 10.0);
+        column.set(2, 99.0);
+        assertArrayEquals(new int[]{2, 0, 3, 4, 1}, column.topPositions(5));
+        assertArrayEquals(new int[]{1}, column.bottomPositions(1));
+        System.out.println("<<< Test finished: topAndBottomPositions");
+    }
+
+    @Test
+    @DisplayName("Snapshots should keep their scores while later writes copy the shared segments")
+    void snapshotIsCopyOnWrite() {
+        System.out.println(">>> Running test: snapshotIsCopyOnWrite");
+        GradeColumn column = new GradeColumn();
+        int size = 2 * GradeColumn.SEGMENT_SIZE + 10;
+        for (int i = 0; i < size; i++) {
+            column.append(i % 2 == 0 ? 50.0 : -1.0);
+        }
+
+        System.out.println("Action: Taking a snapshot, then overwriting, grading and appending.");
+        double[][] snapshot = column.snapshot();
+        column.set(0, 90.0);
+        column.set(GradeColumn.SEGMENT_SIZE + 1, 70.0);
+        column.append(80.0);
+        double[][] second = column.snapshot();
+        column.set(0, 10.0);
+
+        System.out.println("Verification: Each snapshot sees the scores of its own moment.");
+        assertEquals(3, snapshot.length);
+        assertEquals(50.0, snapshot[0][0]);
+        assertEquals(-1.0, snapshot[1][1]);
+        assertEquals(90.0, second[0][0]);
+        assertEquals(70.0, second[1][1]);
+        assertEquals(80.0, second[2][10]);
+        assertEquals(10.0, column.get(0));
+        assertEquals(70.0, column.get(GradeColumn.SEGMENT_SIZE + 1));
+        assertEquals(size / 2 + 2, column.gradedCount());
+        System.out.println("<<< Test finished: snapshotIsCopyOnWrite");
+    }
+}
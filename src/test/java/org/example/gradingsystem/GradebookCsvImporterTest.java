@@ -0,0 +1,137 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Streaming CSV Importer
+ *
+ * Validates bulk loading of students, courses, enrollments and grades:
+ * - Header lines are skipped, blank lines ignored, quoted fields unquoted
+ * - Rejected rows are reported with their line number and do not stop the import
+ * - Imported data is indistinguishable from data added through the API
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("CSV Importer Tests")
+class GradebookCsvImporterTest {
+
+    private StudentGradingSystem system;
+    private GradebookCsvImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        System.out.println("--- @BeforeEach: Setting up empty system and importer ---");
+        system = new StudentGradingSystem();
+        importer = new GradebookCsvImporter(system);
+    }
+
+    @Test
+    @DisplayName("Should import a complete term from CSV files")
+    void importCompleteTerm(@TempDir Path directory) throws IOException {
+        System.out.println(">>> Running test: importCompleteTerm");
+        Path students = Files.writeString(directory.resolve("students.csv"),
+                "id,name,surname\n101,Ahmet,Yılmaz\n102,Ayşe,\"Kaya, Jr.\"\n\n103,Mehmet,Demir\n");
+        Path courses = Files.writeString(directory.resolve("courses.csv"),
+                "code,name\nCS101,Introduction to Programming\nMATH101,Calculus I\n");
+        Path enrollments = Files.writeString(directory.resolve("enrollments.csv"),
+                "studentId,courseCode\n101,CS101\n102,CS101\n103,CS101\n101,MATH101\n");
+        Path grades = Files.writeString(directory.resolve("grades.csv"),
+                "studentId,courseCode,score\n101,CS101,90\n102,CS101,70\n101,MATH101,85.5\n");
+
+        System.out.println("Action: Importing students, courses, enrollments and grades.");
+        assertEquals(3, importer.importStudents(students).getRowsImported());
+        assertEquals(2, importer.importCourses(courses).getRowsImported());
+        assertEquals(4, importer.importEnrollments(enrollments).getRowsImported());
+        ImportReport gradeReport = importer.importGrades(grades);
+
+        System.out.println("Verification: System state matches the files. Report: " + gradeReport);
+        assertEquals(3, gradeReport.getRowsImported());
+        assertEquals(0, gradeReport.getErrorCount());
+        assertEquals("Kaya, Jr.", system.getStudentById("102").getSurname());
+        assertEquals(3, system.getCourse("CS101").getStudentCount());
+        assertEquals(80.0, system.calculateCourseAverage("CS101"), 0.01);
+        assertEquals(85.5, system.getStudentById("101").getGrade("MATH101"));
+        System.out.println("<<< Test finished: importCompleteTerm");
+    }
+
+    @Test
+    @DisplayName("Should report rejected rows with line numbers and keep importing")
+    void reportRowErrors() throws IOException {
+        System.out.println(">>> Running test: reportRowErrors");
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        system.addCourse("CS101", "Introduction to Programming");
+        system.enrollStudentToCourse("101", "CS101");
+
+        String csv = "studentId,courseCode,score\n"
+                + "101,CS101,abc\n"      // line 2: not a number
+                + "101,CS101,150\n"      // line 3: out of range
+                + "999,CS101,50\n"       // line 4: unknown student
+                + "101,CS101\n"          // line 5: missing field
+                + "101,\"CS101,60\n"     // line 6: unterminated quote
+                + "101,CS101,75\n";      // line 7: valid
+
+        System.out.println("Action: Importing grades with five bad rows.");
+        ImportReport report = importer.importGrades(new StringReader(csv));
+
+        System.out.println("Verification: Errors reported per line. Report: " + report);
+        assertEquals(6, report.getRowsRead());
+        assertEquals(1, report.getRowsImported());
+        assertEquals(5, report.getErrorCount());
+        assertEquals(2, report.getErrors().get(0).getLineNumber());
+        assertEquals("Invalid score 'abc'.", report.getErrors().get(0).getMessage());
+        assertEquals("Score must be between 0 and 100.", report.getErrors().get(1).getMessage());
+        assertEquals("Student or Course not found.", report.getErrors().get(2).getMessage());
+        assertEquals(5, report.getErrors().get(3).getLineNumber());
+        assertEquals(6, report.getErrors().get(4).getLineNumber());
+        assertEquals(75.0, system.calculateCourseAverage("CS101"), 0.01);
+        System.out.println("<<< Test finished: reportRowErrors");
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate students without a header line")
+    void importWithoutHeaderAndDuplicates() throws IOException {
+        System.out.println(">>> Running test: importWithoutHeaderAndDuplicates");
+
+        System.out.println("Action: Importing students where one ID repeats.");
+        ImportReport report = importer.importStudents(new StringReader("1,A,B\n2,C,D\n1,E,F\n"));
+
+        System.out.println("Verification: The duplicate is rejected, others imported.");
+        assertEquals(2, report.getRowsImported());
+        assertEquals(1, report.getErrorCount());
+        assertEquals("line 3: Student with this ID already exists.", report.getErrors().get(0).toString());
+        assertEquals(2, system.getStudentCount());
+        System.out.println("<<< Test finished: importWithoutHeaderAndDuplicates");
+    }
+
+    @Test
+    @DisplayName("Should reject NaN and infinite scores as row errors")
+    void rejectNonFiniteScores() throws IOException {
+        System.out.println(">>> Running test: rejectNonFiniteScores");
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        system.addCourse("CS101", "Introduction to Programming");
+        system.enrollStudentToCourse("101", "CS101");
+
+        String csv = "studentId,courseCode,score\n101,CS101,80\n101,CS101,NaN\n101,CS101,-Infinity\n";
+
+        System.out.println("Action: Importing a valid grade followed by two non-finite ones.");
+        ImportReport report = importer.importGrades(new StringReader(csv));
+
+        System.out.println("Verification: Both rows are rejected and the average is untouched.");
+        assertEquals(1, report.getRowsImported());
+        assertEquals("Invalid score 'NaN'.", report.getErrors().get(0).getMessage());
+        assertEquals("Invalid score '-Infinity'.", report.getErrors().get(1).getMessage());
+        assertEquals(80.0, system.calculateCourseAverage("CS101"));
+        System.out.println("<<< Test finished: rejectNonFiniteScores");
+    }
+}
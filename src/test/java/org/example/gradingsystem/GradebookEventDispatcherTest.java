@@ -0,0 +1,215 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Gradebook Event Dispatcher
+ *
+ * Validates the change events published by the grading system:
+ * - Students, courses, enrollments and grade changes arrive in order with old and new scores
+ * - Repeated enrollments and rejected grades publish nothing
+ * - Adjacent grade changes of one student and course within a batch are coalesced
+ *   without reordering, and changes back to the starting score are dropped
+ * - A full queue drops events instead of blocking the publisher
+ * - A failing listener does not stop delivery to the others
+ * - Events racing close() are delivered or counted as dropped, never lost
+ * - An idle dispatcher parks until the next publish
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Gradebook Event Dispatcher Tests")
+class GradebookEventDispatcherTest {
+
+    private static GradebookEvent grade(String studentId, double oldScore, double newScore) {
+        return GradebookEvent.gradeChanged(studentId, "CS101", oldScore, newScore);
+    }
+
+    @Test
+    @DisplayName("Changes should be published in order with their old and new scores")
+    void publishesTypedEvents() {
+        System.out.println(">>> Running test: publishesTypedEvents");
+        List<GradebookEvent> received = Collections.synchronizedList(new ArrayList<>());
+        GradebookEventDispatcher dispatcher = new GradebookEventDispatcher(1024, 1);
+        dispatcher.subscribe(received::addAll);
+        StudentGradingSystem system = new StudentGradingSystem();
+        system.attachEventDispatcher(dispatcher);
+
+        System.out.println("Action: Adding, enrolling and grading twice, then repeating and failing calls.");
+        system.addCourse("CS101", "Introduction to Programming");
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        system.enrollStudentToCourse("101", "CS101");
+        system.assignGrade("101", "CS101", 70.0);
+        system.assignGrade("101", "CS101", 85.0);
+        system.enrollStudentToCourse("101", "CS101");
+        assertThrows(IllegalArgumentException.class, () -> system.assignGrade("101", "CS101", 120.0));
+        dispatcher.close();
+
+        System.out.println("Verification: Five events, one per effective change.");
+        assertEquals(5, received.size());
+        assertEquals(GradebookEvent.Type.COURSE_ADDED, received.get(0).getType());
+        assertEquals("CS101", received.get(0).getCourseCode());
+        assertEquals(GradebookEvent.Type.STUDENT_ADDED, received.get(1).getType());
+        assertEquals("101", received.get(1).getStudentId());
+        assertEquals(GradebookEvent.Type.ENROLLED, received.get(2).getType());
+        assertEquals(GradebookEvent.Type.GRADE_ASSIGNED, received.get(3).getType());
+        assertEquals(-1.0, received.get(3).getOldScore());
+        assertEquals(70.0, received.get(3).getNewScore());
+        assertEquals(GradebookEvent.Type.GRADE_OVERWRITTEN, received.get(4).getType());
+        assertEquals(70.0, received.get(4).getOldScore());
+        assertEquals(85.0, received.get(4).getNewScore());
+        assertEquals(0, dispatcher.getDroppedCount());
+        System.out.println("<<< Test finished: publishesTypedEvents");
+    }
+
+    @Test
+    @DisplayName("Adjacent grade changes of one student and course should be coalesced in place")
+    void coalescesGradeChanges() {
+        System.out.println(">>> Running test: coalescesGradeChanges");
+        List<GradebookEvent> batch = List.of(
+                grade("101", -1.0, 50.0),
+                grade("101", 50.0, 55.0),
+                grade("102", 60.0, 65.0),
+                GradebookEvent.enrolled("103", "CS101"),
+                grade("101", 55.0, 70.0),
+                grade("101", 70.0, 90.0),
+                GradebookEvent.gradeChanged("101", "CS102", 40.0, 45.0));
+
+        System.out.println("Action: Coalescing bursts of regrades separated by other events.");
+        List<GradebookEvent> merged = GradebookEventDispatcher.coalesce(batch);
+
+        System.out.println("Verification: Each adjacent run becomes one event, and nothing is reordered.");
+        assertEquals(5, merged.size());
+        assertEquals(GradebookEvent.Type.GRADE_ASSIGNED, merged.get(0).getType());
+        assertEquals(-1.0, merged.get(0).getOldScore());
+        assertEquals(55.0, merged.get(0).getNewScore());
+        assertEquals("102", merged.get(1).getStudentId());
+        assertEquals(GradebookEvent.Type.ENROLLED, merged.get(2).getType());
+        assertEquals(GradebookEvent.Type.GRADE_OVERWRITTEN, merged.get(3).getType());
+        assertEquals(55.0, merged.get(3).getOldScore());
+        assertEquals(90.0, merged.get(3).getNewScore());
+        assertEquals("CS102", merged.get(4).getCourseCode());
+        System.out.println("<<< Test finished: coalescesGradeChanges");
+    }
+
+    @Test
+    @DisplayName("Grade changes that end at their starting score should be dropped")
+    void dropsNoOpGradeChanges() {
+        System.out.println(">>> Running test: dropsNoOpGradeChanges");
+        List<GradebookEvent> batch = List.of(
+                GradebookEvent.enrolled("101", "CS101"),
+                grade("101", 70.0, 80.0),
+                grade("101", 80.0, 70.0),
+                grade("102", 60.0, 60.0),
+                grade("103", 50.0, 55.0));
+
+        System.out.println("Action: Coalescing a regrade and its revert, and a same-score regrade.");
+        List<GradebookEvent> merged = GradebookEventDispatcher.coalesce(batch);
+
+        System.out.println("Verification: Only the enrollment and the effective change remain.");
+        assertEquals(2, merged.size());
+        assertEquals(GradebookEvent.Type.ENROLLED, merged.get(0).getType());
+        assertEquals("103", merged.get(1).getStudentId());
+        System.out.println("<<< Test finished: dropsNoOpGradeChanges");
+    }
+
+    @Test
+    @DisplayName("A full queue should drop events instead of blocking grading")
+    void dropsWhenFull() throws InterruptedException {
+        System.out.println(">>> Running test: dropsWhenFull");
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GradebookEventDispatcher dispatcher = new GradebookEventDispatcher(4, 1);
+        dispatcher.subscribe(events -> {
+            delivering.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.subscribe(events -> {
+            throw new IllegalStateException("listener failure");
+        });
+        StudentGradingSystem system = new StudentGradingSystem();
+        system.addCourse("CS101", "Introduction to Programming");
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        system.attachEventDispatcher(dispatcher);
+
+        System.out.println("Action: Grading while the only slow listener is stuck on the first batch.");
+        system.assignGrade("101", "CS101", 0.0);
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 10; i++) {
+            system.assignGrade("101", "CS101", i);
+        }
+        release.countDown();
+        dispatcher.close();
+
+        System.out.println("Verification: Four events were queued, the rest dropped, failures counted.");
+        assertEquals(6, dispatcher.getDroppedCount());
+        assertEquals(5, dispatcher.getFailedDeliveryCount());
+        System.out.println("<<< Test finished: dropsWhenFull");
+    }
+
+    @Test
+    @DisplayName("Events published while closing should be either delivered or counted as dropped")
+    void publishRacingClose() throws InterruptedException {
+        System.out.println(">>> Running test: publishRacingClose");
+        for (int round = 0; round < 20; round++) {
+            AtomicLong delivered = new AtomicLong();
+            GradebookEventDispatcher dispatcher = new GradebookEventDispatcher(1 << 20, 64);
+            dispatcher.subscribe(events -> delivered.addAndGet(events.size()));
+            int perThread = 2000;
+            Thread[] publishers = new Thread[4];
+            for (int t = 0; t < publishers.length; t++) {
+                String studentId = "S" + t;
+                publishers[t] = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        // Distinct students per event so that coalescing keeps every event
+                        dispatcher.publish(GradebookEvent.enrolled(studentId + "-" + i, "CS101"));
+                    }
+                });
+                publishers[t].start();
+            }
+
+            System.out.println("Action: Closing the dispatcher while four threads publish (round " + round + ").");
+            Thread.sleep(round % 3);
+            dispatcher.close();
+            for (Thread publisher : publishers) {
+                publisher.join();
+            }
+
+            System.out.println("Verification: Every event was delivered or dropped.");
+            assertEquals(publishers.length * perThread, delivered.get() + dispatcher.getDroppedCount());
+        }
+        System.out.println("<<< Test finished: publishRacingClose");
+    }
+
+    @Test
+    @DisplayName("An idle dispatcher should still deliver the next event promptly")
+    void deliversAfterIdle() throws InterruptedException {
+        System.out.println(">>> Running test: deliversAfterIdle");
+        CountDownLatch received = new CountDownLatch(1);
+        GradebookEventDispatcher dispatcher = new GradebookEventDispatcher();
+        dispatcher.subscribe(events -> received.countDown());
+
+        System.out.println("Action: Publishing one event after the dispatcher has gone idle.");
+        Thread.sleep(50);
+        dispatcher.publish(GradebookEvent.studentAdded("101"));
+
+        System.out.println("Verification: The parked dispatcher is woken by the publish.");
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        dispatcher.close();
+        System.out.println("<<< Test finished: deliversAfterIdle");
+    }
+}
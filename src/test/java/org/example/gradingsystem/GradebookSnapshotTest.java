@@ -0,0 +1,212 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for Binary Snapshots
+ *
+ * Validates that writing and reloading a snapshot reproduces the system:
+ * - Students, courses, enrollment order, grades, exam flags and course IDs survive a round trip
+ * - Grades assigned without enrollment are kept but stay out of course totals
+ * - Foreign, truncated and newer-version files are rejected
+ * - Opened snapshots answer like eagerly loaded ones, across slabs, and never change the file
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Binary Snapshot Tests")
+class GradebookSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private StudentGradingSystem sampleSystem() {
+        StudentGradingSystem system = new StudentGradingSystem();
+        system.addCourse("CS101", "Introduction to Programming");
+        system.addCourse("MATH101", null);
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        system.addStudent("102", "Ayşe", "Kaya");
+        system.addStudent("103", "Çağrı", "Öztürk");
+        system.enrollStudentToCourse("103", "CS101");
+        system.enrollStudentToCourse("101", "CS101");
+        system.enrollStudentToCourse("102", "MATH101");
+        system.assignGrade("101", "CS101", 91.5);
+        system.assignGrade("103", "CS101", 64.0);
+        system.assignGrade("102", "CS101", 10.0); // graded but not enrolled
+        system.recordAttendance("101", "CS101", true);
+        system.recordAttendance("103", "CS101", true);
+        system.recordDisciplinePenalty("103", "CS101", true);
+        return system;
+    }
+
+    @Test
+    @DisplayName("Snapshot round trip should reproduce the system")
+    void roundTrip() throws IOException {
+        System.out.println(">>> Running test: roundTrip");
+        StudentGradingSystem original = sampleSystem();
+        Path file = directory.resolve("term.snapshot");
+
+        System.out.println("Action: Writing and reloading the snapshot.");
+        GradebookSnapshot.write(original, file);
+        StudentGradingSystem restored = GradebookSnapshot.read(file);
+
+        System.out.println("Verification: Students, courses, enrollment order and grades match.");
+        assertEquals(3, restored.getStudentCount());
+        assertEquals(2, restored.getCourses().size());
+        assertNull(restored.getCourse("MATH101").getCourseName());
+        assertEquals(original.getCourse("MATH101").getCourseId(), restored.getCourse("MATH101").getCourseId());
+        assertEquals(Arrays.asList("103", "101"),
+                restored.getCourse("CS101").getEnrolledStudents().stream().map(Student::getId).toList());
+        assertEquals("Çağrı", restored.getStudentById("103").getName());
+        assertEquals(10.0, restored.getStudentById("102").getGrade("CS101"));
+        assertEquals(original.calculateCourseAverage("CS101"), restored.calculateCourseAverage("CS101"));
+        assertEquals("Excellent", restored.evaluateStudentPerformance("101", "CS101"));
+        assertEquals("Conditional", restored.determineExamEligibility("102", "MATH101", true, false));
+        EligibilityPartition eligibility = restored.getCourseEligibility("CS101");
+        assertEquals("Not Eligible", eligibility.getStatus(0));
+        assertEquals("Eligible", eligibility.getStatus(1));
+        System.out.println("<<< Test finished: roundTrip");
+    }
+
+    @Test
+    @DisplayName("Snapshot should load into a concurrent system")
+    void loadIntoConcurrentSystem() throws IOException {
+        System.out.println(">>> Running test: loadIntoConcurrentSystem");
+        Path file = directory.resolve("term.snapshot");
+        GradebookSnapshot.write(sampleSystem(), file);
+
+        ConcurrentStudentGradingSystem restored = new ConcurrentStudentGradingSystem();
+        GradebookSnapshot.load(file, restored);
+
+        assertEquals(77.75, restored.calculateCourseAverage("CS101"), 0.0001);
+        assertThrows(IllegalArgumentException.class, () -> GradebookSnapshot.load(file, restored));
+        System.out.println("<<< Test finished: loadIntoConcurrentSystem");
+    }
+
+    @Test
+    @DisplayName("Should reject foreign, truncated and newer snapshots")
+    void rejectInvalidFiles() throws IOException {
+        System.out.println(">>> Running test: rejectInvalidFiles");
+        Path file = directory.resolve("term.snapshot");
+        GradebookSnapshot.write(sampleSystem(), file);
+        byte[] valid = Files.readAllBytes(file);
+
+        System.out.println("Verification: Foreign file rejected.");
+        Path foreign = Files.writeString(directory.resolve("foreign.csv"), "id,name,surname\n");
+        assertThrows(IOException.class, () -> GradebookSnapshot.read(foreign));
+
+        System.out.println("Verification: Truncated file rejected.");
+        Path truncated = Files.write(directory.resolve("truncated.snapshot"), Arrays.copyOf(valid, valid.length - 3));
+        assertThrows(IOException.class, () -> GradebookSnapshot.read(truncated));
+
+        System.out.println("Verification: Newer version rejected.");
+        byte[] newer = valid.clone();
+        newer[5] = 4;
+        Path newerFile = Files.write(directory.resolve("newer.snapshot"), newer);
+        IOException error = assertThrows(IOException.class, () -> GradebookSnapshot.read(newerFile));
+        assertTrue(error.getMessage().startsWith("Unsupported snapshot version 4"));
+        System.out.println("<<< Test finished: rejectInvalidFiles");
+    }
+
+    @Test
+    @DisplayName("Opened snapshot should be queryable and writable without touching the file")
+    void openMapsSnapshot() throws IOException {
+        System.out.println(">>> Running test: openMapsSnapshot");
+        StudentGradingSystem original = sampleSystem();
+        Path file = directory.resolve("term.snapshot");
+        GradebookSnapshot.write(original, file);
+        byte[] written = Files.readAllBytes(file);
+
+        System.out.println("Action: Opening the snapshot, then querying and changing the opened system.");
+        OffHeapStudentGradingSystem opened = GradebookSnapshot.open(file);
+        assertEquals(3, opened.getStudentCount());
+        assertEquals("Çağrı", opened.getStudentById("103").getName());
+        assertEquals(10.0, opened.getStudentById("102").getGrade("CS101"));
+        assertEquals(Arrays.asList("103", "101"),
+                opened.getCourse("CS101").getEnrolledStudents().stream().map(Student::getId).toList());
+        assertEquals(original.calculateCourseAverage("CS101"), opened.calculateCourseAverage("CS101"));
+        assertEquals("Not Eligible", opened.getCourseEligibility("CS101").getStatus(0));
+        assertEquals("Eligible", opened.getCourseEligibility("CS101").getStatus(1));
+        opened.assignGrade("101", "CS101", 40.0);
+        opened.addStudent("104", "Deniz", "Arslan");
+        opened.enrollStudentToCourse("104", "MATH101");
+        opened.assignGrade("104", "MATH101", 75.0);
+
+        System.out.println("Verification: Changes stay in memory and a new snapshot replaces the file.");
+        assertEquals(52.0, opened.calculateCourseAverage("CS101"), 1e-9);
+        assertEquals(40.0, opened.getStudentById("101").getGrade("CS101"));
+        assertArrayEquals(written, Files.readAllBytes(file));
+        GradebookSnapshot.write(opened, file);
+        assertEquals(75.0, opened.calculateCourseAverage("MATH101"), 1e-9);
+        StudentGradingSystem reopened = GradebookSnapshot.open(file);
+        assertEquals(4, reopened.getStudentCount());
+        assertEquals(52.0, reopened.calculateCourseAverage("CS101"), 1e-9);
+        assertEquals(Arrays.asList("102", "104"),
+                reopened.getCourse("MATH101").getEnrolledStudents().stream().map(Student::getId).toList());
+        System.out.println("<<< Test finished: openMapsSnapshot");
+    }
+
+    @Test
+    @DisplayName("Opened snapshot should match an eager load across several slabs")
+    void openMatchesReadAcrossSlabs() throws IOException {
+        System.out.println(">>> Running test: openMatchesReadAcrossSlabs");
+        StudentGradingSystem original = new OffHeapStudentGradingSystem();
+        int courses = 7;
+        int students = 120_000;
+        for (int c = 0; c < courses; c++) {
+            original.addCourse("C" + c, "Course " + c);
+        }
+        for (int s = 0; s < students; s++) {
+            original.addStudent("S" + s, "Name" + s, "Surname" + s);
+            for (int c = s % 2; c < courses; c++) {
+                original.enrollStudentToCourse("S" + s, "C" + c);
+                original.assignGrade("S" + s, "C" + c, (s * 7 + c) % 101);
+            }
+        }
+        Path file = directory.resolve("large.snapshot");
+        GradebookSnapshot.write(original, file);
+
+        System.out.println("Action: Opening and eagerly reading the same snapshot of more than 16 MB of records.");
+        assertTrue(Files.size(file) > 1 << 24);
+        OffHeapStudentGradingSystem opened = GradebookSnapshot.open(file);
+        StudentGradingSystem read = GradebookSnapshot.read(file);
+
+        System.out.println("Verification: Students, grades and course averages agree.");
+        assertEquals(students, opened.getStudentCount());
+        for (int s = 0; s < students; s += 997) {
+            Student student = opened.getStudentById("S" + s);
+            assertEquals(read.getStudentById("S" + s).getCourseGrades(), student.getCourseGrades());
+            assertEquals("Surname" + s, student.getSurname());
+        }
+        for (int c = 0; c < courses; c++) {
+            assertEquals(original.calculateCourseAverage("C" + c), opened.calculateCourseAverage("C" + c), 1e-9);
+            assertEquals(read.calculateCourseAverage("C" + c), opened.calculateCourseAverage("C" + c), 1e-9);
+        }
+        assertEquals(students - 1, opened.getCourse("C3").positionOf(opened.getStudentById("S" + (students - 1))));
+        System.out.println("<<< Test finished: openMatchesReadAcrossSlabs");
+    }
+
+    @Test
+    @DisplayName("Opening a truncated snapshot should fail without growing the file")
+    void openRejectsTruncatedFile() throws IOException {
+        System.out.println(">>> Running test: openRejectsTruncatedFile");
+        Path file = directory.resolve("term.snapshot");
+        GradebookSnapshot.write(sampleSystem(), file);
+        byte[] valid = Files.readAllBytes(file);
+        Path truncated = Files.write(directory.resolve("truncated.snapshot"), Arrays.copyOf(valid, valid.length - 3));
+
+        System.out.println("Verification: IOException, file size unchanged.");
+        assertThrows(IOException.class, () -> GradebookSnapshot.open(truncated));
+        assertEquals(valid.length - 3, Files.size(truncated));
+        System.out.println("<<< Test finished: openRejectsTruncatedFile");
+    }
+}
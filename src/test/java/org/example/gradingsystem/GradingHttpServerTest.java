@@ -0,0 +1,162 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the HTTP API
+ *
+ * Drives a running server with the JDK HTTP client:
+ * - Students and courses are created, enrolled and graded through the endpoints
+ * - Averages, performance and eligibility are answered as JSON
+ * - Unknown resources answer 404, rejected calls 400, wrong methods 405
+ * - Non-finite scores are rejected and unexpected failures, unsupported operations
+ *   included, answer 500
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Grading HTTP Server Tests")
+class GradingHttpServerTest {
+
+    private GradingHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.out.println("--- @BeforeEach: Starting server on a free port ---");
+        server = GradingHttpServer.start(new ConcurrentStudentGradingSystem(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Endpoints should create, enroll, grade and report as JSON")
+    void gradingWorkflow() throws Exception {
+        System.out.println(">>> Running test: gradingWorkflow");
+
+        System.out.println("Action: Creating a course and a student, enrolling and grading.");
+        assertEquals(201, send("POST", "/courses?code=CS101&name=Intro%20Programming").statusCode());
+        HttpResponse<String> created = send("POST", "/students?id=101&name=Ahmet&surname=Y%C4%B1lmaz");
+        assertEquals(201, created.statusCode());
+        assertEquals("{\"id\":\"101\",\"name\":\"Ahmet\",\"surname\":\"Yılmaz\",\"gpa\":0.0,\"average\":0.0}",
+                created.body());
+        assertEquals(201, send("POST", "/courses/CS101/enrollments?studentId=101").statusCode());
+        HttpResponse<String> graded = send("PUT", "/courses/CS101/grades/101?score=91.5");
+        assertEquals(200, graded.statusCode());
+        assertTrue(graded.body().contains("\"letterGrade\":\"A\""));
+
+        System.out.println("Verification: Reports reflect the grade.");
+        assertEquals("{\"courseCode\":\"CS101\",\"average\":91.5}", send("GET", "/courses/CS101/average").body());
+        assertEquals("[{\"code\":\"CS101\",\"name\":\"Intro Programming\",\"studentCount\":1,\"average\":91.5}]",
+                send("GET", "/courses").body());
+        assertTrue(send("GET", "/courses/CS101/performance?studentId=101").body()
+                .contains("\"performance\":\"Excellent\""));
+        assertTrue(send("GET", "/courses/CS101/performance").body().contains("\"Excellent\":1"));
+        assertTrue(send("GET", "/courses/CS101/eligibility").body().contains("\"notEligible\":[\"101\"]"));
+        assertTrue(send("GET", "/courses/CS101/eligibility?studentId=101&attendanceComplete=true").body()
+                .contains("\"eligibility\":\"Eligible\""));
+        assertTrue(send("GET", "/students/101").body().contains("\"gpa\":4.0"));
+        System.out.println("<<< Test finished: gradingWorkflow");
+    }
+
+    @Test
+    @DisplayName("Errors should map to 404, 400 and 405 with a JSON message")
+    void errorStatuses() throws Exception {
+        System.out.println(">>> Running test: errorStatuses");
+        send("POST", "/courses?code=CS101&name=Intro");
+
+        System.out.println("Verification: Unknown resources, bad input and wrong methods.");
+        assertEquals(404, send("GET", "/students/999").statusCode());
+        assertEquals(404, send("GET", "/courses/CS999").statusCode());
+        assertEquals(404, send("GET", "/nothing").statusCode());
+        assertEquals(404, send("PUT", "/courses/CS101/grades/999?score=50").statusCode());
+        assertEquals(404, send("POST", "/courses/CS999/enrollments?studentId=999").statusCode());
+        assertEquals(404, send("GET", "/courses/CS999/eligibility").statusCode());
+        assertEquals("{\"error\":\"Student not found.\"}",
+                send("GET", "/courses/CS101/performance?studentId=999").body());
+        HttpResponse<String> invalid = send("PUT", "/courses/CS101/grades/999?score=abc");
+        assertEquals(400, invalid.statusCode());
+        assertEquals("{\"error\":\"Not a number: abc.\"}", invalid.body());
+        assertEquals(400, send("POST", "/courses?code=CS101&name=Again").statusCode());
+        assertEquals(400, send("POST", "/students?id=1").statusCode());
+        assertEquals(405, send("DELETE", "/courses/CS101").statusCode());
+        assertEquals(405, send("POST", "/courses/CS101/average").statusCode());
+        System.out.println("<<< Test finished: errorStatuses");
+    }
+
+    @Test
+    @DisplayName("Non-finite scores should answer 400 and unexpected failures 500")
+    void nonFiniteScoresAndInternalErrors() throws Exception {
+        System.out.println(">>> Running test: nonFiniteScoresAndInternalErrors");
+        send("POST", "/courses?code=CS101&name=Intro");
+        send("POST", "/students?id=101&name=Ahmet&surname=Yilmaz");
+        send("POST", "/courses/CS101/enrollments?studentId=101");
+
+        System.out.println("Action: Grading with NaN and Infinity.");
+        assertEquals(400, send("PUT", "/courses/CS101/grades/101?score=NaN").statusCode());
+        assertEquals(400, send("PUT", "/courses/CS101/grades/101?score=Infinity").statusCode());
+        assertEquals("{\"courseCode\":\"CS101\",\"average\":0.0}", send("GET", "/courses/CS101/average").body());
+
+        System.out.println("Action: Querying a system whose average computation fails.");
+        StudentGradingSystem failing = new ConcurrentStudentGradingSystem() {
+            @Override
+            public double calculateCourseAverage(String courseCode) {
+                throw new IllegalStateException("broken");
+            }
+
+            @Override
+            public Map<PerformanceLevel, Integer> getCoursePerformanceCounts(String courseCode) {
+                throw new UnsupportedOperationException("broken");
+            }
+
+            @Override
+            public EligibilityPartition getCourseEligibility(String courseCode) {
+                throw new IllegalArgumentException("Course not found.");
+            }
+        };
+        failing.addCourse("CS101", "Intro");
+        try (GradingHttpServer broken = GradingHttpServer.start(failing,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            String base = "http://localhost:" + broken.getPort() + "/courses/CS101/";
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "average")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> unsupported = client.send(
+                    HttpRequest.newBuilder(URI.create(base + "performance")).build(), HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> rejected = client.send(
+                    HttpRequest.newBuilder(URI.create(base + "eligibility")).build(), HttpResponse.BodyHandlers.ofString());
+
+            System.out.println("Verification: Failures are 500 even when unsupported; rejections stay 400 whatever their message.");
+            assertEquals(500, response.statusCode());
+            assertEquals("{\"error\":\"Internal server error.\"}", response.body());
+            assertEquals(500, unsupported.statusCode());
+            assertEquals(400, rejected.statusCode());
+        }
+        System.out.println("<<< Test finished: nonFiniteScoresAndInternalErrors");
+    }
+}
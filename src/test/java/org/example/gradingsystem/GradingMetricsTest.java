@@ -0,0 +1,143 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Grading Metrics
+ *
+ * Validates the latency instrumentation of the grading calls:
+ * - Nothing is recorded while disabled
+ * - Every timed operation is counted, including rejected calls
+ * - Histogram buckets keep percentiles within 1/8 of the true value
+ * - Counts from many threads add up without loss
+ * - The MBean exposes the same numbers over JMX
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Grading Metrics Tests")
+class GradingMetricsTest {
+
+    private static StudentGradingSystem sampleSystem() {
+        StudentGradingSystem system = new StudentGradingSystem();
+        system.addCourse("CS101", "Introduction to Programming");
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        return system;
+    }
+
+    @Test
+    @DisplayName("Operations should be counted only while metrics are enabled")
+    void countsOnlyWhenEnabled() {
+        System.out.println(">>> Running test: countsOnlyWhenEnabled");
+        StudentGradingSystem system = sampleSystem();
+        GradingMetrics metrics = system.getMetrics();
+
+        System.out.println("Action: Calling every timed operation, disabled and then enabled.");
+        system.enrollStudentToCourse("101", "CS101");
+        system.assignGrade("101", "CS101", 80.0);
+        assertEquals(0, metrics.snapshot(GradingOperation.ASSIGN_GRADE).getCount());
+        metrics.setEnabled(true);
+        system.enrollStudentToCourse("101", "CS101");
+        system.assignGrade("101", "CS101", 85.0);
+        assertThrows(IllegalArgumentException.class, () -> system.assignGrade("999", "CS101", 85.0));
+        system.calculateCourseAverage("CS101");
+        system.evaluateStudentPerformance("101", "CS101");
+        system.determineExamEligibility("101", "CS101", true, false);
+
+        System.out.println("Verification: One count per call, rejected calls included.");
+        assertEquals(2, metrics.snapshot(GradingOperation.ASSIGN_GRADE).getCount());
+        for (GradingOperation operation : List.of(GradingOperation.ENROLL_STUDENT,
+                GradingOperation.CALCULATE_COURSE_AVERAGE, GradingOperation.EVALUATE_STUDENT_PERFORMANCE,
+                GradingOperation.DETERMINE_EXAM_ELIGIBILITY)) {
+            OperationStats stats = metrics.snapshot(operation);
+            assertEquals(1, stats.getCount(), operation.name());
+            assertTrue(stats.getP50Nanos() <= stats.getMaxNanos());
+        }
+        metrics.reset();
+        assertEquals(0, metrics.snapshot(GradingOperation.ASSIGN_GRADE).getCount());
+        System.out.println("<<< Test finished: countsOnlyWhenEnabled");
+    }
+
+    @Test
+    @DisplayName("Histogram buckets should bound the relative error by 1/8")
+    void bucketPrecision() {
+        System.out.println(">>> Running test: bucketPrecision");
+        System.out.println("Verification: Each value lies in a bucket whose upper bound is within 1/8.");
+        for (long value = 0; value < 1_000_000; value += 7) {
+            long high = GradingMetrics.highestValueOf(GradingMetrics.bucketOf(value));
+            assertTrue(high >= value && high <= value + value / 8, "value " + value);
+        }
+        assertTrue(GradingMetrics.bucketOf(Long.MAX_VALUE) > GradingMetrics.bucketOf(1L << 40));
+        System.out.println("<<< Test finished: bucketPrecision");
+    }
+
+    @Test
+    @DisplayName("Counts from concurrent threads should add up")
+    void concurrentCountsAddUp() throws Exception {
+        System.out.println(">>> Running test: concurrentCountsAddUp");
+        ConcurrentStudentGradingSystem system = new ConcurrentStudentGradingSystem();
+        system.addCourse("CS101", "Introduction to Programming");
+        system.getMetrics().setEnabled(true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        System.out.println("Action: 8 threads each compute 1000 course averages.");
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    system.calculateCourseAverage("CS101");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        System.out.println("Verification: No call was lost.");
+        assertEquals(8000, system.getMetrics().snapshot(GradingOperation.CALCULATE_COURSE_AVERAGE).getCount());
+        System.out.println("<<< Test finished: concurrentCountsAddUp");
+    }
+
+    @Test
+    @DisplayName("The MBean should expose the toggle and the operation statistics")
+    void exposedOverJmx() throws Exception {
+        System.out.println(">>> Running test: exposedOverJmx");
+        StudentGradingSystem system = sampleSystem();
+        GradingMetrics metrics = system.getMetrics();
+        ObjectName name = metrics.registerMBean("test-jmx");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            System.out.println("Action: Enabling through JMX and grading once.");
+            server.setAttribute(name, new Attribute("Enabled", true));
+            system.assignGrade("101", "CS101", 70.0);
+
+            System.out.println("Verification: The operations attribute carries the count.");
+            assertTrue(metrics.isEnabled());
+            CompositeData[] operations = (CompositeData[]) server.getAttribute(name, "Operations");
+            assertEquals(GradingOperation.values().length, operations.length);
+            assertEquals("ASSIGN_GRADE", operations[0].get("operation"));
+            assertEquals(1L, operations[0].get("count"));
+            assertThrows(IllegalStateException.class, () -> metrics.registerMBean("test-jmx"));
+        } finally {
+            metrics.unregisterMBean("test-jmx");
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        System.out.println("<<< Test finished: exposedOverJmx");
+    }
+}
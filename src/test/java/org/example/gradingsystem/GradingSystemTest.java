@@ -1,10 +1,13 @@
 package org.example.gradingsystem;
 
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -451,4 +454,465 @@ class GradingSystemTest {
 
         System.out.println("<<< Test finished: calculateCourseAverageForNonExistentCourse");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Course average should follow grade overwrites")
+    void calculateCourseAverageAfterGradeOverwrite() {
+        System.out.println(">>> Running test: calculateCourseAverageAfterGradeOverwrite");
+        system.addStudent("102", "Ayşe", "Kaya");
+        system.enrollStudentToCourse("101", "CS101");
+        system.enrollStudentToCourse("102", "CS101");
+        system.assignGrade("101", "CS101", 90.0);
+        system.assignGrade("102", "CS101", 70.0);
+
+        System.out.println("Action: Overwriting student 102's grade from 70.0 to 50.0.");
+        system.assignGrade("102", "CS101", 50.0);
+
+        System.out.println("Verification: Average reflects only the new grade. Expected: 70.0");
+        assertEquals(70.0, system.calculateCourseAverage("CS101"), 0.01);
+        assertEquals(2, system.getCourse("CS101").getGradedCount());
+        System.out.println("<<< Test finished: calculateCourseAverageAfterGradeOverwrite");
+    }
+
+    @Test
+    @DisplayName("Course average should include grades assigned before enrollment only once enrolled")
+    void calculateCourseAverageWithGradeAssignedBeforeEnrollment() {
+        System.out.println(">>> Running test: calculateCourseAverageWithGradeAssignedBeforeEnrollment");
+
+        System.out.println("Action: Grading student 101 before enrolling.");
+        system.assignGrade("101", "CS101", 60.0);
+        System.out.println("Verification: Unenrolled grade does not count. Expected: 0.0");
+        assertEquals(0.0, system.calculateCourseAverage("CS101"));
+
+        System.out.println("Action: Enrolling student 101 (twice).");
+        system.enrollStudentToCourse("101", "CS101");
+        system.enrollStudentToCourse("101", "CS101");
+        System.out.println("Verification: Existing grade now counts once. Expected: 60.0");
+        assertEquals(60.0, system.calculateCourseAverage("CS101"), 0.01);
+        assertEquals(1, system.getCourse("CS101").getGradedCount());
+        System.out.println("<<< Test finished: calculateCourseAverageWithGradeAssignedBeforeEnrollment");
+    }
+
+    @Test
+    @DisplayName("Courses should receive dense IDs and grades stay reachable by code")
+    void coursesReceiveDenseIds() {
+        System.out.println(">>> Running test: coursesReceiveDenseIds");
+        system.addCourse("MATH101", "Calculus I");
+        system.addCourse("PHY101", "Physics I");
+
+        System.out.println("Verification: IDs follow the order in which courses were added.");
+        assertEquals(0, system.getCourse("CS101").getCourseId());
+        assertEquals(1, system.getCourse("MATH101").getCourseId());
+        assertEquals(2, system.getCourse("PHY101").getCourseId());
+
+        System.out.println("Action: Grading student 101 in two courses.");
+        system.assignGrade("101", "PHY101", 88.0);
+        system.assignGrade("101", "CS101", 64.0);
+
+        System.out.println("Verification: String API translates codes to the right grades.");
+        Student student = system.getStudentById("101");
+        assertEquals(88.0, student.getGrade("PHY101"));
+        assertEquals(64.0, student.getGrade("CS101"));
+        assertEquals(-1.0, student.getGrade("MATH101"));
+        assertEquals(Map.of("PHY101", 88.0, "CS101", 64.0), student.getCourseGrades());
+        assertEquals(-1, new Course("X1", "Standalone").getCourseId());
+        System.out.println("<<< Test finished: coursesReceiveDenseIds");
+    }
+
+    @Test
+    @DisplayName("Should build score histogram and letter distribution for enrolled students")
+    void scoreHistogramAndLetterDistribution() {
+        System.out.println(">>> Running test: scoreHistogramAndLetterDistribution");
+        double[] scores = {95.0, 85.0, 82.0, 71.0, 40.0};
+        for (int i = 0; i < scores.length; i++) {
+            String studentId = "20" + i;
+            system.addStudent(studentId, "Name" + i, "Surname" + i);
+            system.enrollStudentToCourse(studentId, "CS101");
+            system.assignGrade(studentId, "CS101", scores[i]);
+        }
+        system.enrollStudentToCourse("101", "CS101"); // enrolled but ungraded
+        system.addStudent("300", "Not", "Enrolled");
+        system.assignGrade("300", "CS101", 10.0);      // graded but not enrolled
+
+        System.out.println("Verification: Only graded enrolled students are counted.");
+        assertArrayEquals(new int[]{0, 1, 1, 3}, system.getScoreHistogram("CS101", 4));
+        assertEquals(Map.of("A", 1, "B", 2, "C", 1, "D", 0, "F", 1),
+                system.getLetterGradeDistribution("CS101"));
+        assertEquals("[A, B, C, D, F]", system.getLetterGradeDistribution("CS101").keySet().toString());
+
+        System.out.println("Verification: Invalid requests are rejected.");
+        assertThrows(IllegalArgumentException.class, () -> system.getScoreHistogram("CS999", 4));
+        assertThrows(IllegalArgumentException.class, () -> system.getScoreHistogram("CS101", 0));
+        assertThrows(IllegalArgumentException.class, () -> system.getLetterGradeDistribution("CS999"));
+        System.out.println("<<< Test finished: scoreHistogramAndLetterDistribution");
+    }
+
+    @Test
+    @DisplayName("Should answer median and percentiles of enrolled students' grades")
+    void coursePercentiles() {
+        System.out.println(">>> Running test: coursePercentiles");
+        assertEquals(0.0, system.getCourseMedian("CS101"));
+        double[] scores = {95.0, 85.0, 82.0, 71.0, 40.0, 66.5};
+        for (int i = 0; i < scores.length; i++) {
+            String studentId = "20" + i;
+            system.addStudent(studentId, "Name" + i, "Surname" + i);
+            system.enrollStudentToCourse(studentId, "CS101");
+            system.assignGrade(studentId, "CS101", scores[i]);
+        }
+        system.addStudent("300", "Not", "Enrolled");
+        system.assignGrade("300", "CS101", 10.0);      // graded but not enrolled
+
+        System.out.println("Verification: Nearest-rank percentiles over the six enrolled grades.");
+        assertEquals(71.0, system.getCourseMedian("CS101"));
+        assertEquals(40.0, system.getCoursePercentile("CS101", 10));
+        assertEquals(95.0, system.getCoursePercentile("CS101", 90));
+
+        System.out.println("Action: Overwriting the highest grade.");
+        system.assignGrade("200", "CS101", 50.0);
+        assertEquals(85.0, system.getCoursePercentile("CS101", 90));
+        assertEquals(66.5, system.getCourseMedian("CS101"));
+
+        System.out.println("Verification: Invalid requests are rejected.");
+        assertThrows(IllegalArgumentException.class, () -> system.getCourseMedian("CS999"));
+        assertThrows(IllegalArgumentException.class, () -> system.getCoursePercentile("CS101", 100.5));
+        assertThrows(IllegalArgumentException.class, () -> system.getCoursePercentile("CS101", Double.NaN));
+        System.out.println("<<< Test finished: coursePercentiles");
+    }
+
+    @Test
+    @DisplayName("Batch letter conversion should match the scalar method")
+    void batchLetterConversionMatchesScalar() {
+        System.out.println(">>> Running test: batchLetterConversionMatchesScalar");
+        double[] scores = {0.0, 59.99, 60.0, 69.999, 70.0, 79.99, 80.0, 89.99, 90.0, 99.99, 100.0,
+                Math.nextDown(60.0), Math.nextDown(90.0), Double.MIN_VALUE, Double.NaN};
+
+        System.out.println("Action: Converting boundary scores in one batch.");
+        byte[] letters = StudentGradingSystem.convertScoresToLetterGrades(scores);
+
+        System.out.println("Verification: Every letter equals the scalar conversion.");
+        assertEquals(scores.length, letters.length);
+        for (int i = 0; i < scores.length; i++) {
+            assertEquals(StudentGradingSystem.convertScoreToLetterGrade(scores[i]), String.valueOf((char) letters[i]),
+                    "score " + scores[i]);
+        }
+        assertEquals(0, StudentGradingSystem.convertScoresToLetterGrades(new double[0]).length);
+
+        System.out.println("Verification: Any out-of-range score rejects the batch.");
+        assertThrows(IllegalArgumentException.class,
+                () -> StudentGradingSystem.convertScoresToLetterGrades(new double[]{50.0, 100.01}));
+        assertThrows(IllegalArgumentException.class,
+                () -> StudentGradingSystem.convertScoresToLetterGrades(new double[]{-0.5, 50.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> StudentGradingSystem.convertScoresToLetterGrades(new double[]{Double.POSITIVE_INFINITY}));
+        System.out.println("<<< Test finished: batchLetterConversionMatchesScalar");
+    }
+
+    @Test
+    @DisplayName("Course-level performance evaluation should match the per-student method")
+    void coursePerformanceMatchesPerStudent() {
+        System.out.println(">>> Running test: coursePerformanceMatchesPerStudent");
+        double[] scores = {85.0, 84.99, 70.0, 50.0, 49.99, -1.0};
+        for (int i = 0; i < scores.length; i++) {
+            String studentId = "20" + i;
+            system.addStudent(studentId, "Name" + i, "Surname" + i);
+            system.enrollStudentToCourse(studentId, "CS101");
+            if (scores[i] >= 0) {
+                system.assignGrade(studentId, "CS101", scores[i]);
+            }
+        }
+
+        System.out.println("Action: Evaluating the whole course at once.");
+        PerformanceLevel[] levels = system.evaluateCoursePerformance("CS101");
+
+        System.out.println("Verification: Levels follow enrollment order and agree with evaluateStudentPerformance.");
+        List<Student> enrolled = system.getCourse("CS101").getEnrolledStudents();
+        assertEquals(enrolled.size(), levels.length);
+        for (int i = 0; i < levels.length; i++) {
+            assertEquals(system.evaluateStudentPerformance(enrolled.get(i).getId(), "CS101"), levels[i].getLabel());
+        }
+        assertEquals(Map.of(PerformanceLevel.EXCELLENT, 1, PerformanceLevel.SATISFACTORY, 2, PerformanceLevel.PASS, 1,
+                        PerformanceLevel.FAIL, 1, PerformanceLevel.NO_GRADE, 1),
+                system.getCoursePerformanceCounts("CS101"));
+        assertThrows(IllegalArgumentException.class, () -> system.evaluateCoursePerformance("CS999"));
+        System.out.println("<<< Test finished: coursePerformanceMatchesPerStudent");
+    }
+
+    @Test
+    @DisplayName("Bulk exam eligibility should follow the decision table for every student")
+    void courseEligibilityMatchesDecisionTable() {
+        System.out.println(">>> Running test: courseEligibilityMatchesDecisionTable");
+        int studentCount = 150; // spans three bitmap words
+        for (int i = 0; i < studentCount; i++) {
+            String studentId = "S" + i;
+            system.addStudent(studentId, "Name" + i, "Surname" + i);
+            system.enrollStudentToCourse(studentId, "CS101");
+            system.recordAttendance(studentId, "CS101", (i & 1) != 0);
+            system.recordDisciplinePenalty(studentId, "CS101", (i & 2) != 0);
+            if ((i & 4) != 0) {
+                system.assignGrade(studentId, "CS101", 55.0);
+            }
+        }
+        system.recordAttendance("S8", "CS101", false); // flags can be cleared again
+
+        System.out.println("Action: Partitioning the whole course.");
+        EligibilityPartition partition = system.getCourseEligibility("CS101");
+
+        System.out.println("Verification: Each student's group equals determineExamEligibility with the same flags.");
+        int eligible = 0;
+        int conditional = 0;
+        for (int i = 0; i < studentCount; i++) {
+            boolean attendance = (i & 1) != 0 && i != 8;
+            String expected = system.determineExamEligibility("S" + i, "CS101", attendance, (i & 2) != 0);
+            assertEquals(expected, partition.getStatus(i), "student S" + i);
+            eligible += expected.equals("Eligible") ? 1 : 0;
+            conditional += expected.equals("Conditional") ? 1 : 0;
+        }
+        assertEquals(eligible, partition.getEligibleCount());
+        assertEquals(conditional, partition.getConditionalCount());
+        assertEquals(studentCount - eligible - conditional, partition.getNotEligibleCount());
+        assertEquals("S5", partition.getEligible().get(0).getId());
+        assertEquals(studentCount, partition.getEligible().size() + partition.getConditional().size()
+                + partition.getNotEligible().size());
+
+        System.out.println("Verification: Flags require an enrolled student.");
+        assertThrows(IllegalArgumentException.class, () -> system.recordAttendance("101", "CS101", true));
+        assertThrows(IllegalArgumentException.class, () -> system.recordDisciplinePenalty("S1", "CS999", true));
+        assertThrows(IllegalArgumentException.class, () -> system.getCourseEligibility("CS999"));
+        System.out.println("<<< Test finished: courseEligibilityMatchesDecisionTable");
+    }
+
+    @Test
+    @DisplayName("Should find students by name and surname with paging")
+    void findStudentsByNameAndSurname() {
+        System.out.println(">>> Running test: findStudentsByNameAndSurname");
+        system.addStudent("102", "Ayşe", "Yıldız");
+        system.addStudent("103", "Mehmet", "Yılmaz");
+        system.addStudent("104", "ahmet", "Kaya");
+        system.addStudent("105", "Ahmetcan", "Yıldırım");
+
+        System.out.println("Verification: Prefix matches are ordered by surname, then ID.");
+        assertEquals(List.of("105", "102", "101", "103"),
+                system.findStudentsBySurnamePrefix("Yıl", 0, 10).stream().map(Student::getId).toList());
+        assertEquals(List.of("102", "101"),
+                system.findStudentsBySurnamePrefix("yıl", 1, 2).stream().map(Student::getId).toList());
+
+        System.out.println("Verification: Exact and prefix name matches ignore case.");
+        assertEquals(List.of("101", "104"), system.findStudentsByName("AHMET", 0, 10).stream().map(Student::getId).toList());
+        assertEquals(3, system.findStudentsByNamePrefix("ahm", 0, 10).size());
+        assertTrue(system.findStudentsBySurname("Yıl", 0, 10).isEmpty());
+        assertEquals(1, system.findStudentsByNamePrefix("a", 3, 10).size());
+        assertTrue(system.findStudentsByNamePrefix("a", 4, 10).isEmpty());
+
+        System.out.println("Verification: Invalid paging is rejected.");
+        assertThrows(IllegalArgumentException.class, () -> system.findStudentsByName(null, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> system.findStudentsByName("Ahmet", -1, 10));
+        System.out.println("<<< Test finished: findStudentsByNameAndSurname");
+    }
+
+    @Test
+    @DisplayName("Should list top and bottom students of a course")
+    void topAndBottomStudents() {
+        System.out.println(">>> Running test: topAndBottomStudents");
+        double[] scores = {88.0, 97.5, 61.0, 88.0, 45.0};
+        for (int i = 0; i < scores.length; i++) {
+            String studentId = "20" + i;
+            system.addStudent(studentId, "Name" + i, "Surname" + i);
+            system.enrollStudentToCourse(studentId, "CS101");
+            system.assignGrade(studentId, "CS101", scores[i]);
+        }
+        system.enrollStudentToCourse("101", "CS101"); // enrolled but ungraded
+
+        System.out.println("Verification: Leaderboards follow grades and live overwrites.");
+        assertEquals(List.of("201", "200", "203"),
+                system.getTopStudents("CS101", 3).stream().map(Student::getId).toList());
+        assertEquals(List.of("204", "202"),
+                system.getBottomStudents("CS101", 2).stream().map(Student::getId).toList());
+        system.assignGrade("204", "CS101", 100.0);
+        assertEquals("204", system.getTopStudents("CS101", 1).get(0).getId());
+        assertEquals(5, system.getTopStudents("CS101", 10).size());
+        assertTrue(system.getTopStudents("CS101", 0).isEmpty());
+
+        System.out.println("Verification: Invalid requests are rejected.");
+        assertThrows(IllegalArgumentException.class, () -> system.getTopStudents("CS101", -1));
+        assertThrows(IllegalArgumentException.class, () -> system.getBottomStudents("CS999", 3));
+        System.out.println("<<< Test finished: topAndBottomStudents");
+    }
+
+    @Test
+    @DisplayName("Should rank a student among the graded students of a course")
+    void studentRank() {
+        System.out.println(">>> Running test: studentRank");
+        double[] scores = {88.0, 97.5, 61.0, 88.0, 45.0};
+        for (int i = 0; i < scores.length; i++) {
+            String studentId = "20" + i;
+            system.addStudent(studentId, "Name" + i, "Surname" + i);
+            system.enrollStudentToCourse(studentId, "CS101");
+            system.assignGrade(studentId, "CS101", scores[i]);
+        }
+
+        System.out.println("Verification: Highest grade ranks first, equal grades share a rank.");
+        assertEquals(1, system.getStudentRank("201", "CS101"));
+        assertEquals(2, system.getStudentRank("200", "CS101"));
+        assertEquals(2, system.getStudentRank("203", "CS101"));
+        assertEquals(4, system.getStudentRank("202", "CS101"));
+        assertEquals(5, system.getStudentRank("204", "CS101"));
+
+        System.out.println("Action: Overwriting the lowest grade with the highest.");
+        system.assignGrade("204", "CS101", 100.0);
+        assertEquals(1, system.getStudentRank("204", "CS101"));
+        assertEquals(2, system.getStudentRank("201", "CS101"));
+
+        System.out.println("Verification: Unknown, unenrolled and ungraded students are rejected.");
+        system.enrollStudentToCourse("101", "CS101");
+        assertThrows(IllegalArgumentException.class, () -> system.getStudentRank("101", "CS101"));
+        system.addStudent("300", "Not", "Enrolled");
+        system.assignGrade("300", "CS101", 70.0);
+        assertThrows(IllegalArgumentException.class, () -> system.getStudentRank("300", "CS101"));
+        assertThrows(IllegalArgumentException.class, () -> system.getStudentRank("999", "CS101"));
+        System.out.println("<<< Test finished: studentRank");
+    }
+
+    @Test
+    @DisplayName("Student GPA and average are cached and follow grade and scale changes")
+    void studentGpa() {
+        System.out.println(">>> Running test: studentGpa");
+        system.addCourse("MATH101", "Calculus");
+        system.addCourse("PHYS101", "Physics");
+
+        System.out.println("Action: Grading student 101 with an A, a C and an F.");
+        system.assignGrade("101", "CS101", 95.0);
+        system.assignGrade("101", "MATH101", 72.0);
+        system.assignGrade("101", "PHYS101", 41.0);
+
+        System.out.println("Verification: GPA on the four-point scale and the mean score.");
+        assertEquals(2.0, system.getStudentGpa("101"), 1e-9);
+        assertEquals(69.333, system.getStudentAverage("101"), 1e-3);
+
+        System.out.println("Action: Overwriting the F with a B.");
+        system.assignGrade("101", "PHYS101", 80.0);
+        assertEquals(3.0, system.getStudentGpa("101"), 1e-9);
+        assertEquals(82.333, system.getStudentAverage("101"), 1e-3);
+
+        System.out.println("Action: Switching to a scale that awards no points below B.");
+        system.setGradingScale(new GradingScale(10.0, 5.0, 0.0, 0.0, 0.0));
+        assertEquals(5.0, system.getStudentGpa("101"), 1e-9);
+
+        System.out.println("Verification: Ungraded students have 0.0, unknown students are rejected.");
+        system.addStudent("102", "Ayşe", "Demir");
+        assertEquals(0.0, system.getStudentGpa("102"));
+        assertEquals(0.0, system.getStudentAverage("102"));
+        assertThrows(IllegalArgumentException.class, () -> system.getStudentGpa("999"));
+        assertThrows(IllegalArgumentException.class, () -> system.setGradingScale(null));
+        System.out.println("<<< Test finished: studentGpa");
+    }
+
+    @Test
+    @DisplayName("Read snapshots should not change when grading continues")
+    void readSnapshotIsPointInTime() {
+        System.out.println(">>> Running test: readSnapshotIsPointInTime");
+        system.enrollStudentToCourse("101", "CS101");
+        system.assignGrade("101", "CS101", 80.0);
+
+        System.out.println("Action: Taking a snapshot, then grading, enrolling and adding a course.");
+        GradebookView view = system.readSnapshot();
+        system.assignGrade("101", "CS101", 40.0);
+        system.addStudent("102", "Ayşe", "Demir");
+        system.enrollStudentToCourse("102", "CS101");
+        system.addCourse("MATH101", "Calculus");
+
+        System.out.println("Verification: The view still shows the state it was taken at.");
+        CourseView course = view.getCourse("CS101");
+        assertEquals("Introduction to Programming", course.getCourseName());
+        assertEquals(1, course.getStudentCount());
+        assertEquals("101", course.getEnrolledStudents().get(0).getId());
+        assertEquals(80.0, course.getGrade(0));
+        assertEquals(80.0, course.calculateAverage());
+        assertNull(view.getCourse("MATH101"));
+        assertEquals(1, view.getCourses().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> course.getGrade(1));
+        assertThrows(UnsupportedOperationException.class, () -> course.getEnrolledStudents().add(null));
+
+        System.out.println("Verification: A new snapshot sees the later writes.");
+        CourseView later = system.readSnapshot().getCourse("CS101");
+        assertEquals(2, later.getStudentCount());
+        assertEquals(40.0, later.getGrade(0));
+        assertEquals(-1.0, later.getGrade(1));
+        assertEquals(40.0, later.calculateAverage());
+        System.out.println("<<< Test finished: readSnapshotIsPointInTime");
+    }
+
+    @Test
+    @DisplayName("NaN scores should be rejected before they reach the course totals")
+    void nanScoreRejected() {
+        System.out.println(">>> Running test: nanScoreRejected");
+        system.enrollStudentToCourse("101", "CS101");
+        system.assignGrade("101", "CS101", 70.0);
+
+        System.out.println("Action: Assigning NaN through the system and through the student.");
+        assertThrows(IllegalArgumentException.class, () -> system.assignGrade("101", "CS101", Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> system.getStudentById("101").addGrade("CS101", Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> system.assignGrade("101", "CS101", Double.POSITIVE_INFINITY));
+
+        System.out.println("Verification: The grade and the course average are unchanged.");
+        assertEquals(70.0, system.getStudentById("101").getGrade("CS101"));
+        assertEquals(70.0, system.calculateCourseAverage("CS101"));
+        System.out.println("<<< Test finished: nanScoreRejected");
+    }
+
+    @Test
+    @DisplayName("Grades added on a registered student should update the course totals")
+    void studentAddGradeUpdatesCourse() {
+        System.out.println(">>> Running test: studentAddGradeUpdatesCourse");
+        for (StudentGradingSystem grading : List.of(system, new OffHeapStudentGradingSystem())) {
+            if (grading != system) {
+                grading.addStudent("101", "Ahmet", "Yılmaz");
+                grading.addCourse("CS101", "Introduction to Programming");
+            }
+            grading.enrollStudentToCourse("101", "CS101");
+
+            System.out.println("Action: Grading through the student object, twice, and for an unknown course.");
+            Student student = grading.getStudentById("101");
+            student.addGrade("CS101", 50.0);
+            student.addGrade("CS101", 90.0);
+            student.addGrade("PHY101", 65.0);
+
+            System.out.println("Verification: Course average and student performance agree.");
+            assertEquals(90.0, grading.calculateCourseAverage("CS101"));
+            assertEquals(grading.evaluateStudentPerformance("101", "CS101"),
+                    grading.evaluateCoursePerformance("CS101")[0].getLabel());
+            assertEquals(65.0, grading.getStudentById("101").getGrade("PHY101"));
+            assertEquals(1, grading.getCourse("CS101").getGradedCount());
+        }
+        System.out.println("<<< Test finished: studentAddGradeUpdatesCourse");
+    }
+
+    @Test
+    @DisplayName("Per-course statistics should reject an unknown course, the average should return 0.0")
+    void unknownCourseStatistics() {
+        System.out.println(">>> Running test: unknownCourseStatistics");
+        for (StudentGradingSystem system : new StudentGradingSystem[]{
+                new StudentGradingSystem(), new ConcurrentStudentGradingSystem(), new OffHeapStudentGradingSystem()}) {
+            system.addCourse("CS101", "Introduction to Programming");
+
+            System.out.println("Verification: " + system.getClass().getSimpleName() + " on course 'CS999'.");
+            assertEquals(0.0, system.calculateCourseAverage("CS999"));
+            for (Executable statistic : new Executable[]{
+                    () -> system.getCourseMedian("CS999"),
+                    () -> system.getCoursePercentile("CS999", 90),
+                    () -> system.getTopStudents("CS999", 3),
+                    () -> system.getBottomStudents("CS999", 3),
+                    () -> system.getScoreHistogram("CS999", 4),
+                    () -> system.getLetterGradeDistribution("CS999"),
+                    () -> system.evaluateCoursePerformance("CS999"),
+                    () -> system.getCoursePerformanceCounts("CS999"),
+                    () -> system.getCourseEligibility("CS999")}) {
+                IllegalArgumentException error = assertThrows(IllegalArgumentException.class, statistic);
+                assertEquals("Course not found.", error.getMessage());
+            }
+            assertEquals(0.0, system.getCourseMedian("CS101"));
+        }
+        System.out.println("<<< Test finished: unknownCourseStatistics\n");
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Student Name Index
+ *
+ * Compares the sorted-run index against a brute-force scan:
+ * - Prefix and exact matches, case-insensitive, ordered by key and then ID
+ * - Paging across many merged runs and the unsorted insertion order
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Tests for NameIndex")
+class NameIndexTest {
+
+    private static final String[] SURNAMES = {"Yılmaz", "Kaya", "Demir", "Çelik", "Şahin", "Yıldız", "Yıldırım",
+            "Öztürk", "Aydın", "Özdemir", "Arslan", "Doğan", "Kılıç", "Aslan", "Çetin", "Kara", "Koç", "Kurt"};
+
+    @Test
+    @DisplayName("Queries should match a brute-force scan across merged runs")
+    void matchesBruteForce() {
+        System.out.println(">>> Running test: matchesBruteForce");
+        NameIndex index = new NameIndex();
+        List<String[]> entries = new ArrayList<>();
+        Random random = new Random(3);
+
+        System.out.println("Action: Indexing 10,000 surnames in random order.");
+        for (int i = 0; i < 10_000; i++) {
+            String surname = SURNAMES[random.nextInt(SURNAMES.length)];
+            String value = random.nextBoolean() ? surname : surname.toUpperCase(Locale.ROOT);
+            String id = "S" + random.nextInt(1_000_000) + "-" + i;
+            index.add(value, id);
+            entries.add(new String[]{NameIndex.normalize(value), id});
+        }
+        entries.sort(Comparator.<String[], String>comparing(entry -> entry[0]).thenComparing(entry -> entry[1]));
+
+        System.out.println("Verification: Pages equal the sorted brute-force matches.");
+        assertEquals(10_000, index.size());
+        for (String query : new String[]{"y", "Yıl", "YILDIZ", "kara", "k", "", "zz"}) {
+            for (boolean exact : new boolean[]{false, true}) {
+                String key = NameIndex.normalize(query);
+                List<String> expected = new ArrayList<>();
+                for (String[] entry : entries) {
+                    if (exact ? entry[0].equals(key) : entry[0].startsWith(key)) {
+                        expected.add(entry[1]);
+                    }
+                }
+                assertEquals(expected, index.find(query, exact, 0, Integer.MAX_VALUE), query + " exact=" + exact);
+                int offset = expected.size() / 2;
+                assertEquals(expected.subList(offset, Math.min(offset + 25, expected.size())),
+                        index.find(query, exact, offset, 25), query + " page");
+            }
+        }
+        System.out.println("<<< Test finished: matchesBruteForce");
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Off-Heap Grading System Variant
+ *
+ * Checks that keeping students and grades outside the heap changes nothing visible:
+ * - A random sequence of operations gives the same results as the on-heap system,
+ *   including name searches, which scan instead of using an index
+ * - Grades spanning several storage chunks can be read and overwritten
+ * - The ID index keeps working after it grows, and duplicate IDs are rejected
+ * - Snapshots load into and write from the off-heap system
+ * - Courses keep enrollments as record keys and reject students of other systems
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Off-Heap Grading System Tests")
+class OffHeapStudentGradingSystemTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Random operations should give the same results as the on-heap system")
+    void matchesOnHeapSystem() {
+        System.out.println(">>> Running test: matchesOnHeapSystem");
+        StudentGradingSystem onHeap = new StudentGradingSystem();
+        StudentGradingSystem offHeap = new OffHeapStudentGradingSystem();
+        Random random = new Random(11);
+        int students = 500;
+        int courses = 12;
+
+        System.out.println("Action: Applying the same random calls to both systems.");
+        for (StudentGradingSystem system : new StudentGradingSystem[]{onHeap, offHeap}) {
+            for (int c = 0; c < courses; c++) {
+                system.addCourse("C" + c, "Course " + c);
+            }
+            for (int s = 0; s < students; s++) {
+                system.addStudent("S" + s, "Name" + s, "Şükrü" + s);
+            }
+        }
+        for (int i = 0; i < 5000; i++) {
+            String studentId = "S" + random.nextInt(students);
+            String courseCode = "C" + random.nextInt(courses);
+            boolean enroll = random.nextBoolean();
+            double score = random.nextInt(1001) / 10.0;
+            for (StudentGradingSystem system : new StudentGradingSystem[]{onHeap, offHeap}) {
+                if (enroll) {
+                    system.enrollStudentToCourse(studentId, courseCode);
+                } else {
+                    system.assignGrade(studentId, courseCode, score);
+                }
+            }
+        }
+
+        System.out.println("Verification: Students, grades and course aggregates agree.");
+        assertEquals(onHeap.getStudentCount(), offHeap.getStudentCount());
+        for (int s = 0; s < students; s++) {
+            Student expected = onHeap.getStudentById("S" + s);
+            Student actual = offHeap.getStudentById("S" + s);
+            assertEquals(expected.getSurname(), actual.getSurname());
+            assertEquals(expected.getCourseGrades(), actual.getCourseGrades());
+            assertEquals(onHeap.evaluateStudentPerformance("S" + s, "C0"), offHeap.evaluateStudentPerformance("S" + s, "C0"));
+        }
+        assertEquals(onHeap.findStudentsBySurnamePrefix("şükrü1", 5, 20), offHeap.findStudentsBySurnamePrefix("ŞÜKRÜ1", 5, 20)
+                .stream().map(student -> onHeap.getStudentById(student.getId())).toList());
+        for (int c = 0; c < courses; c++) {
+            assertEquals(onHeap.calculateCourseAverage("C" + c), offHeap.calculateCourseAverage("C" + c), 1e-9);
+            assertEquals(onHeap.getCourse("C" + c).getStudentCount(), offHeap.getCourse("C" + c).getStudentCount());
+        }
+        System.out.println("<<< Test finished: matchesOnHeapSystem");
+    }
+
+    @Test
+    @DisplayName("Grades across several chunks should be readable and overwritable")
+    void gradesAcrossChunks() {
+        System.out.println(">>> Running test: gradesAcrossChunks");
+        OffHeapStudentGradingSystem system = new OffHeapStudentGradingSystem();
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        for (int c = 0; c < 10; c++) {
+            system.addCourse("C" + c, "Course " + c);
+            system.assignGrade("101", "C" + c, 50.0 + c);
+        }
+
+        System.out.println("Action: Overwriting a grade in the third chunk.");
+        system.assignGrade("101", "C9", 100.0);
+
+        System.out.println("Verification: All ten grades are kept in assignment order.");
+        Student student = system.getStudentById("101");
+        assertEquals(10, student.getCourseGrades().size());
+        assertEquals(100.0, student.getGrade("C9"));
+        assertEquals(54.0, student.getGrade("C4"));
+        assertEquals(-1.0, student.getGrade("UNKNOWN"));
+        assertEquals("C0", student.getCourseGrades().keySet().iterator().next());
+        assertThrows(UnsupportedOperationException.class, () -> student.getCourseGrades().put("C1", 1.0));
+        assertEquals(student, system.getStudentById("101"));
+        assertEquals(student.hashCode(), system.getStudentById("101").hashCode());
+        System.out.println("<<< Test finished: gradesAcrossChunks");
+    }
+
+    @Test
+    @DisplayName("ID index should keep finding students after growing")
+    void indexGrowsAndRejectsDuplicates() {
+        System.out.println(">>> Running test: indexGrowsAndRejectsDuplicates");
+        OffHeapStudentGradingSystem system = new OffHeapStudentGradingSystem();
+
+        System.out.println("Action: Adding 20,000 students.");
+        for (int s = 0; s < 20_000; s++) {
+            system.addStudent("ID" + s, "Name", "Surname");
+        }
+
+        System.out.println("Verification: Every ID resolves, unknown IDs do not, duplicates fail.");
+        assertEquals(20_000, system.getStudentCount());
+        for (int s = 0; s < 20_000; s += 997) {
+            assertEquals("ID" + s, system.getStudentById("ID" + s).getId());
+        }
+        assertNull(system.getStudentById("ID20000"));
+        assertNull(system.getStudentById(null));
+        assertThrows(IllegalArgumentException.class, () -> system.addStudent("ID5", "Other", "Student"));
+        assertEquals(20_000, system.students().size());
+        System.out.println("<<< Test finished: indexGrowsAndRejectsDuplicates");
+    }
+
+    @Test
+    @DisplayName("Snapshots should round-trip through the off-heap system")
+    void snapshotRoundTrip() throws IOException {
+        System.out.println(">>> Running test: snapshotRoundTrip");
+        OffHeapStudentGradingSystem original = new OffHeapStudentGradingSystem();
+        original.addCourse("CS101", "Introduction to Programming");
+        original.addStudent("101", "Ahmet", "Yılmaz");
+        original.addStudent("102", "Ayşe", "Kaya");
+        original.enrollStudentToCourse("102", "CS101");
+        original.enrollStudentToCourse("101", "CS101");
+        original.assignGrade("101", "CS101", 91.5);
+        original.recordAttendance("101", "CS101", true);
+        Path file = directory.resolve("term.snapshot");
+
+        System.out.println("Action: Writing from and loading into off-heap systems.");
+        GradebookSnapshot.write(original, file);
+        OffHeapStudentGradingSystem restored = new OffHeapStudentGradingSystem();
+        GradebookSnapshot.load(file, restored);
+
+        System.out.println("Verification: Enrollments, grades and flags survive.");
+        assertEquals(Map.of("CS101", 91.5), restored.getStudentById("101").getCourseGrades());
+        assertEquals("102", restored.getCourse("CS101").getEnrolledStudents().get(0).getId());
+        assertEquals(91.5, restored.calculateCourseAverage("CS101"));
+        assertEquals(1, restored.getCourseEligibility("CS101").getEligibleCount());
+        assertEquals(4.0, restored.getStudentGpa("101"));
+        System.out.println("<<< Test finished: snapshotRoundTrip");
+    }
+
+    @Test
+    @DisplayName("Courses should keep enrollments as record keys and reject foreign students")
+    void enrollmentsByRecordKey() {
+        System.out.println(">>> Running test: enrollmentsByRecordKey");
+        OffHeapStudentGradingSystem system = new OffHeapStudentGradingSystem();
+        system.addCourse("CS101", "Introduction to Programming");
+        int students = 3 * GradeColumn.SEGMENT_SIZE + 5;
+        for (int s = 0; s < students; s++) {
+            system.addStudent("S" + s, "Name" + s, "Surname" + s);
+        }
+        Course course = system.getCourse("CS101");
+
+        System.out.println("Action: Enrolling students in reverse order across several segments, twice for some.");
+        for (int s = students - 1; s >= 0; s--) {
+            system.enrollStudentToCourse("S" + s, "CS101");
+        }
+        CourseView view = system.readSnapshot().getCourse("CS101");
+        system.addStudent("LATE", "Late", "Student");
+        system.enrollStudentToCourse("LATE", "CS101");
+        system.enrollStudentToCourse("S7", "CS101");
+        system.assignGrade("S7", "CS101", 88.0);
+
+        System.out.println("Verification: Order, positions, snapshots and grades follow the enrollments.");
+        assertEquals(students + 1, course.getStudentCount());
+        assertEquals(students, view.getStudentCount());
+        assertEquals("S" + (students - 1), course.getEnrolledStudents().get(0).getId());
+        assertEquals("LATE", course.getEnrolledStudents().get(students).getId());
+        assertEquals(system.getStudentById("S7"), course.getEnrolledStudents().get(students - 1 - 7));
+        assertEquals(students - 1 - 7, course.positionOf(system.getStudentById("S7")));
+        assertTrue(course.isEnrolled("S0"));
+        assertFalse(course.isEnrolled("S-missing"));
+        assertEquals(88.0, course.getGradeSum(), 1e-9);
+        assertEquals(1, course.getGradedCount());
+        assertThrows(IllegalArgumentException.class, () -> course.addStudent(new Student("X1", "Foreign", "Student")));
+        assertThrows(IllegalArgumentException.class, () -> course.addStudent(null));
+        assertEquals(students + 1, course.getStudentCount());
+        System.out.println("<<< Test finished: enrollmentsByRecordKey\n");
+    }
+}
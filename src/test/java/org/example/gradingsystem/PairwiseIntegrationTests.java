@@ -215,11 +215,11 @@ public class PairwiseIntegrationTests {
     }
 
     /**
-     * Test Case 7: Pair-wise integration of calculateCourseAverage (SGS) → getEnrolledStudents (Course)
-     * Tests: StudentGradingSystem.calculateCourseAverage() calls Course.getEnrolledStudents()
+     * Test Case 7: Pair-wise integration of calculateCourseAverage (SGS) → grade totals (Course)
+     * Tests: StudentGradingSystem.calculateCourseAverage() reads Course.getGradeSum()/getGradedCount()
      */
     @Test
-    @DisplayName("TC07: SGS.calculateCourseAverage → Course.getEnrolledStudents integration")
+    @DisplayName("TC07: SGS.calculateCourseAverage → Course grade totals integration")
     void test07_calculateAverageCourseIntegration() {
         // Setup: Create students and configure mock course
         Student student1 = new Student("S1", "Emma", "Davis");
@@ -236,6 +236,8 @@ public class PairwiseIntegrationTests {
         when(mockCourse.getCourseName()).thenReturn(COURSE_NAME);                    // B3: Course name
         when(mockCourse.getStudentCount()).thenReturn(2);                           // B4: Student count
         when(mockCourse.toString()).thenReturn("Course[" + COURSE_CODE + "]");       // B5: String representation
+        when(mockCourse.getGradeSum()).thenReturn(170.0);                            // B6: Running grade sum
+        when(mockCourse.getGradedCount()).thenReturn(2);                             // B7: Graded student count
         
         // Inject mock course
         system.getCourses().put(COURSE_CODE, mockCourse);
@@ -245,7 +247,8 @@ public class PairwiseIntegrationTests {
         
         // Verify
         assertEquals(85.0, average, 0.01);
-        verify(mockCourse, atLeastOnce()).getEnrolledStudents();
+        verify(mockCourse, atLeastOnce()).getGradedCount();
+        verify(mockCourse, never()).getEnrolledStudents();
     }
 
     /**
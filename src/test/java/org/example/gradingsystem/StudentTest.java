@@ -2,6 +2,9 @@ package org.example.gradingsystem;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -229,4 +232,79 @@ class StudentTest {
         assertEquals(-1.0, actualGrade2);
         System.out.println("<<< Test finished: retrieveAssignedGrade");
     }
+
+    @Test
+    @DisplayName("Should keep all grades when a student takes many courses")
+    void addGradesForManyCourses() {
+        System.out.println(">>> Running test: addGradesForManyCourses");
+        Student student = new Student("201", "Fatma", "Öztürk");
+
+        System.out.println("Action: Adding grades for 100 courses, then overwriting every other one.");
+        for (int i = 0; i < 100; i++) {
+            student.addGrade("C" + i, i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            student.addGrade("C" + i, 100 - i);
+        }
+
+        System.out.println("Verification: Every grade is retrievable with the latest value.");
+        assertEquals(100, student.getCourseGrades().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? 100 - i : i, student.getGrade("C" + i));
+        }
+        assertEquals(-1.0, student.getGrade("C100"));
+        System.out.println("<<< Test finished: addGradesForManyCourses");
+    }
+
+    @Test
+    @DisplayName("Course grades view should be read-only and reflect later grades")
+    void courseGradesViewIsReadOnly() {
+        System.out.println(">>> Running test: courseGradesViewIsReadOnly");
+        Student student = new Student("201", "Fatma", "Öztürk");
+        var grades = student.getCourseGrades();
+
+        System.out.println("Action: Adding a grade after obtaining the view.");
+        student.addGrade("MATH101", 72.5);
+
+        System.out.println("Verification: View shows the grade and rejects modification.");
+        assertEquals(72.5, grades.get("MATH101"));
+        assertNull(grades.get("PHY101"));
+        assertEquals(java.util.Map.of("MATH101", 72.5), grades);
+        assertThrows(UnsupportedOperationException.class, () -> grades.put("PHY101", 50.0));
+        assertThrows(IllegalArgumentException.class, () -> student.addGrade(null, 50.0));
+        System.out.println("<<< Test finished: courseGradesViewIsReadOnly");
+    }
+
+    /**
+     * Test Case: Standalone Students Share the Course Code Dictionary
+     *
+     * Purpose: Verifies that students created outside a grading system share one
+     * course code dictionary while keeping their grades separate.
+     *
+     * Test Steps:
+     * 1. Create two standalone Students
+     * 2. Grade each of them in a different course and both in a common course
+     * 3. Verify the dictionary is shared and each student sees only its own grades
+     *
+     * Expected Result: One dictionary, independent grades per student
+     */
+    @Test
+    @DisplayName("Standalone students should share one course code dictionary")
+    void standaloneStudentsShareCourseCodes() {
+        System.out.println(">>> Running test: standaloneStudentsShareCourseCodes");
+        Student first = new Student("201", "Fatma", "Öztürk");
+        Student second = new Student("202", "Ali", "Kaya");
+        System.out.println("Action: Grading both students in separate and common courses.");
+        first.addGrade("PHY101", 80.0);
+        second.addGrade("CHE101", 60.0);
+        first.addGrade("MAT101", 70.0);
+        second.addGrade("MAT101", 90.0);
+
+        System.out.println("Verification: The dictionary is shared and grades stay per student.");
+        assertSame(first.courseCodes(), second.courseCodes());
+        assertEquals(Map.of("PHY101", 80.0, "MAT101", 70.0), first.getCourseGrades());
+        assertEquals(Map.of("CHE101", 60.0, "MAT101", 90.0), second.getCourseGrades());
+        assertEquals(-1.0, first.getGrade("CHE101"));
+        System.out.println("<<< Test finished: standaloneStudentsShareCourseCodes");
+    }
 }
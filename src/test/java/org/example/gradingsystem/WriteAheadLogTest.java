@@ -0,0 +1,241 @@
+package org.example.gradingsystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for the Write-Ahead Log
+ *
+ * Validates that journaled calls can be recovered after a restart:
+ * - Replaying the log reproduces students, courses, enrollments, grades and exam flags
+ * - A torn record at the end of the log is ignored, and cut off when the log is reopened
+ * - A checkpoint moves the state into a snapshot and empties the log
+ * - Recovery maps the snapshot, or loads it eagerly into a given system
+ * - Concurrent writers are all durable once their calls return
+ * - After a failed write every later call fails and nothing more reaches the log
+ *
+ * @author Eren Kaan Çakır, Berke Beyazbenli
+ * @version 1.0
+ */
+@DisplayName("Write-Ahead Log Tests")
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private void journalSampleCalls(StudentGradingSystem system) {
+        system.addCourse("CS101", "Introduction to Programming");
+        system.addStudent("101", "Ahmet", "Yılmaz");
+        system.addStudent("102", "Ayşe", "Kaya");
+        system.enrollStudentToCourse("101", "CS101");
+        system.enrollStudentToCourse("102", "CS101");
+        system.assignGrade("101", "CS101", 91.5);
+        system.assignGrade("102", "CS101", 40.0);
+        system.recordAttendance("101", "CS101", true);
+        system.recordDisciplinePenalty("102", "CS101", true);
+        system.assignGrade("102", "CS101", 64.0);
+    }
+
+    @Test
+    @DisplayName("Recovery should replay every journaled call")
+    void recoverReplaysLog() throws IOException {
+        System.out.println(">>> Running test: recoverReplaysLog");
+        Path logFile = directory.resolve("gradebook.wal");
+        StudentGradingSystem system = new StudentGradingSystem();
+
+        System.out.println("Action: Journaling calls, closing the log and recovering.");
+        try (WriteAheadLog log = WriteAheadLog.open(logFile)) {
+            system.attachWriteAheadLog(log);
+            journalSampleCalls(system);
+        }
+        StudentGradingSystem recovered = WriteAheadLog.recover(directory.resolve("none.snapshot"), logFile);
+
+        System.out.println("Verification: The recovered system matches the original.");
+        assertEquals(2, recovered.getStudentCount());
+        assertEquals("Kaya", recovered.getStudentById("102").getSurname());
+        assertEquals(64.0, recovered.getStudentById("102").getGrade("CS101"));
+        assertEquals(2, recovered.getCourse("CS101").getStudentCount());
+        assertEquals(system.calculateCourseAverage("CS101"), recovered.calculateCourseAverage("CS101"), 1e-9);
+        assertEquals(1, recovered.getCourseEligibility("CS101").getEligibleCount());
+        assertEquals("Not Eligible", recovered.getCourseEligibility("CS101").getStatus(1));
+        System.out.println("<<< Test finished: recoverReplaysLog");
+    }
+
+    @Test
+    @DisplayName("A torn record at the end of the log should be ignored")
+    void tornTailIgnored() throws IOException {
+        System.out.println(">>> Running test: tornTailIgnored");
+        Path logFile = directory.resolve("gradebook.wal");
+        StudentGradingSystem system = new StudentGradingSystem();
+        try (WriteAheadLog log = WriteAheadLog.open(logFile)) {
+            system.attachWriteAheadLog(log);
+            journalSampleCalls(system);
+        }
+
+        System.out.println("Action: Cutting the last record in half and replaying.");
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 6);
+        }
+        StudentGradingSystem recovered = new StudentGradingSystem();
+        long records = WriteAheadLog.replay(logFile, recovered);
+
+        System.out.println("Verification: Every record before the torn one is applied.");
+        assertEquals(9, records);
+        assertEquals(40.0, recovered.getStudentById("102").getGrade("CS101"));
+        System.out.println("<<< Test finished: tornTailIgnored");
+    }
+
+    @Test
+    @DisplayName("Recovery should combine the checkpoint snapshot with the newer log")
+    void checkpointThenRecover() throws IOException {
+        System.out.println(">>> Running test: checkpointThenRecover");
+        Path logFile = directory.resolve("gradebook.wal");
+        Path snapshot = directory.resolve("gradebook.snapshot");
+        StudentGradingSystem system = new StudentGradingSystem();
+
+        System.out.println("Action: Checkpointing halfway and journaling more calls.");
+        try (WriteAheadLog log = WriteAheadLog.open(logFile)) {
+            system.attachWriteAheadLog(log);
+            journalSampleCalls(system);
+            log.checkpoint(system, snapshot);
+            assertEquals(0, Files.size(logFile));
+            system.addStudent("103", "Çağrı", "Öztürk");
+            system.enrollStudentToCourse("103", "CS101");
+            system.assignGrade("103", "CS101", 77.0);
+        }
+        StudentGradingSystem recovered = WriteAheadLog.recover(snapshot, logFile);
+        StudentGradingSystem loaded = WriteAheadLog.recover(snapshot, logFile, new ConcurrentStudentGradingSystem());
+
+        System.out.println("Verification: The snapshot is mapped, and state from both it and the log is present.");
+        assertInstanceOf(OffHeapStudentGradingSystem.class, recovered);
+        assertInstanceOf(ConcurrentStudentGradingSystem.class, loaded);
+        for (StudentGradingSystem result : List.of(recovered, loaded)) {
+            assertEquals(3, result.getStudentCount());
+            assertEquals(91.5, result.getStudentById("101").getGrade("CS101"));
+            assertEquals(77.0, result.getStudentById("103").getGrade("CS101"));
+            assertEquals(3, result.getCourse("CS101").getStudentCount());
+        }
+        System.out.println("<<< Test finished: checkpointThenRecover");
+    }
+
+    @Test
+    @DisplayName("Grades from concurrent writers should all be durable")
+    void concurrentWritersDurable() throws Exception {
+        System.out.println(">>> Running test: concurrentWritersDurable");
+        Path logFile = directory.resolve("gradebook.wal");
+        ConcurrentStudentGradingSystem system = new ConcurrentStudentGradingSystem();
+        int threads = 4;
+        int studentsPerThread = 50;
+
+        System.out.println("Action: Grading students from " + threads + " threads.");
+        try (WriteAheadLog log = WriteAheadLog.open(logFile)) {
+            system.attachWriteAheadLog(log);
+            system.addCourse("CS101", "Introduction to Programming");
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * studentsPerThread;
+                futures.add(pool.submit(() -> {
+                    for (int i = offset; i < offset + studentsPerThread; i++) {
+                        String id = "S" + i;
+                        system.addStudent(id, "Name", "Surname");
+                        system.enrollStudentToCourse(id, "CS101");
+                        system.assignGrade(id, "CS101", i % 101);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+        }
+        StudentGradingSystem recovered = WriteAheadLog.recover(directory.resolve("none.snapshot"), logFile);
+
+        System.out.println("Verification: Every student and grade was recovered.");
+        assertEquals(threads * studentsPerThread, recovered.getStudentCount());
+        assertEquals(threads * studentsPerThread, recovered.getCourse("CS101").getGradedCount());
+        assertEquals(system.calculateCourseAverage("CS101"), recovered.calculateCourseAverage("CS101"), 1e-9);
+        System.out.println("<<< Test finished: concurrentWritersDurable");
+    }
+
+    @Test
+    @DisplayName("Records written after reopening a torn log should survive recovery")
+    void reopenTornLogThenRecover() throws IOException {
+        System.out.println(">>> Running test: reopenTornLogThenRecover");
+        Path logFile = directory.resolve("gradebook.wal");
+        try (WriteAheadLog log = WriteAheadLog.open(logFile)) {
+            StudentGradingSystem system = new StudentGradingSystem();
+            system.attachWriteAheadLog(log);
+            journalSampleCalls(system);
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 6);
+        }
+
+        System.out.println("Action: Recovering the torn log, reopening it and journaling more calls.");
+        long validLength = WriteAheadLog.validLength(logFile);
+        assertTrue(validLength < Files.size(logFile));
+        StudentGradingSystem system = WriteAheadLog.recover(directory.resolve("none.snapshot"), logFile);
+        try (WriteAheadLog log = WriteAheadLog.open(logFile)) {
+            assertEquals(validLength, Files.size(logFile));
+            system.attachWriteAheadLog(log);
+            system.addStudent("103", "Çağrı", "Öztürk");
+            system.enrollStudentToCourse("103", "CS101");
+            system.assignGrade("103", "CS101", 77.0);
+        }
+        StudentGradingSystem recovered = WriteAheadLog.recover(directory.resolve("none.snapshot"), logFile);
+
+        System.out.println("Verification: The torn record is gone and the new records are replayed.");
+        assertEquals(40.0, recovered.getStudentById("102").getGrade("CS101"));
+        assertEquals(77.0, recovered.getStudentById("103").getGrade("CS101"));
+        assertEquals(3, recovered.getCourse("CS101").getStudentCount());
+        assertEquals(Files.size(logFile), WriteAheadLog.validLength(logFile));
+        System.out.println("<<< Test finished: reopenTornLogThenRecover");
+    }
+
+    @Test
+    @DisplayName("After a failed write the log should fail every later call and persist nothing more")
+    void failStopAfterWriteError() throws Exception {
+        System.out.println(">>> Running test: failStopAfterWriteError");
+        Path logFile = directory.resolve("failing.wal");
+        StudentGradingSystem system = new StudentGradingSystem();
+        try (WriteAheadLog log = WriteAheadLog.open(logFile)) {
+            system.attachWriteAheadLog(log);
+            system.addCourse("CS101", "Introduction to Programming");
+            system.addStudent("101", "Ahmet", "Yılmaz");
+
+            System.out.println("Action: Interrupting the flusher, which closes the channel on its next write.");
+            Thread flusher = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("wal-flusher-" + logFile.getFileName()))
+                    .findFirst().orElseThrow();
+            flusher.interrupt();
+            assertThrows(UncheckedIOException.class, () -> system.addStudent("102", "Ayşe", "Demir"));
+
+            System.out.println("Verification: Later appends and syncs fail instead of succeeding behind the gap.");
+            assertThrows(UncheckedIOException.class, () -> system.enrollStudentToCourse("101", "CS101"));
+            assertThrows(UncheckedIOException.class, () -> system.assignGrade("101", "CS101", 90.0));
+            assertThrows(UncheckedIOException.class, log::sync);
+            flusher.join(5_000);
+            assertFalse(flusher.isAlive());
+        }
+        StudentGradingSystem recovered = WriteAheadLog.recover(directory.resolve("none.snapshot"), logFile);
+        assertEquals(1, recovered.getStudentCount());
+        assertEquals(0, recovered.getCourse("CS101").getStudentCount());
+        System.out.println("<<< Test finished: failStopAfterWriteError");
+    }
+}